@@ -2,10 +2,12 @@ package com.davsilvam;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AcademicApplication {
     public static void main(String[] args) {
         SpringApplication.run(AcademicApplication.class, args);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.davsilvam.controllers;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.dtos.AbsenceImportResponse;
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.absence.dtos.CreateAbsenceRequest;
+import com.davsilvam.domain.absence.dtos.UpdateAbsenceRequest;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.AbsenceImportService;
+import com.davsilvam.services.AbsenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("absences")
+@RequiredArgsConstructor
+public class AbsenceController {
+    private final AbsenceService absenceService;
+    private final AbsenceImportService absenceImportService;
+
+    @GetMapping("{id}")
+    public ResponseEntity<AbsenceResponse> get(@PathVariable("id") UUID id, @AuthenticationPrincipal User user, WebRequest request) {
+        Absence absence = this.absenceService.get(id, user);
+        return ETags.conditional(request, ETags.of(absence.getId(), absence.getVersion()), () -> AbsenceResponse.from(absence));
+    }
+
+    @GetMapping("subject/{subjectId}")
+    public ResponseEntity<CursorPage<AbsenceResponse>> fetch(@PathVariable("subjectId") UUID subjectId, @RequestParam(value = "cursor", required = false) UUID cursor, @RequestParam(value = "size", required = false) Integer size, @AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.absenceService.fetchETag(subjectId, user), () -> this.absenceService.fetch(subjectId, cursor, size, user));
+    }
+
+    @PostMapping
+    public ResponseEntity<AbsenceResponse> create(@RequestBody CreateAbsenceRequest request, @AuthenticationPrincipal User user) {
+        AbsenceResponse response = AbsenceResponse.from(this.absenceService.create(request, user));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping(value = "import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<AbsenceImportResponse> importCsv(InputStream body, @AuthenticationPrincipal User user) {
+        AbsenceImportResponse response = this.absenceImportService.importCsv(body, user);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PutMapping("{id}")
+    public ResponseEntity<AbsenceResponse> update(@PathVariable("id") UUID id, @RequestBody UpdateAbsenceRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @AuthenticationPrincipal User user) {
+        Absence absence = this.absenceService.update(id, request, ifMatch, user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(absence.getId(), absence.getVersion())).body(AbsenceResponse.from(absence));
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id, @AuthenticationPrincipal User user) {
+        this.absenceService.delete(id, user);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
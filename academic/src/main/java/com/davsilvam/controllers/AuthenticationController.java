@@ -5,6 +5,7 @@ import com.davsilvam.domain.user.dtos.LoginResponse;
 import com.davsilvam.domain.user.dtos.RegisterRequest;
 import com.davsilvam.domain.user.dtos.RegisterResponse;
 import com.davsilvam.services.AuthorizationService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpStatus;
@@ -27,8 +28,8 @@ public class AuthenticationController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@NotNull @RequestBody LoginRequest request) {
-        LoginResponse response = this.authorizationService.login(request);
+    public ResponseEntity<LoginResponse> login(@NotNull @RequestBody LoginRequest request, @NotNull HttpServletRequest servletRequest) {
+        LoginResponse response = this.authorizationService.login(request, servletRequest.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 }
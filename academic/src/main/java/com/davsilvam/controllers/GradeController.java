@@ -0,0 +1,63 @@
+package com.davsilvam.controllers;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.GradeBatchResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.grade.dtos.UpdateGradeRequest;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.GradeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("grades")
+@RequiredArgsConstructor
+public class GradeController {
+    private final GradeService gradeService;
+
+    @GetMapping("{id}")
+    public ResponseEntity<GradeResponse> get(@PathVariable("id") UUID id, @AuthenticationPrincipal User user, WebRequest request) {
+        Grade grade = this.gradeService.get(id, user);
+        return ETags.conditional(request, ETags.of(grade.getId(), grade.getVersion()), () -> GradeResponse.from(grade));
+    }
+
+    @GetMapping("subject/{subjectId}")
+    public ResponseEntity<CursorPage<GradeResponse>> fetch(@PathVariable("subjectId") UUID subjectId, @RequestParam(value = "cursor", required = false) UUID cursor, @RequestParam(value = "size", required = false) Integer size, @AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.gradeService.fetchETag(subjectId, user), () -> this.gradeService.fetch(subjectId, cursor, size, user));
+    }
+
+    @PostMapping
+    public ResponseEntity<GradeResponse> create(@RequestBody CreateGradeRequest request, @AuthenticationPrincipal User user) {
+        GradeResponse response = GradeResponse.from(this.gradeService.create(request, user));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("batch")
+    public ResponseEntity<GradeBatchResponse> createBatch(@RequestBody List<CreateGradeRequest> request, @AuthenticationPrincipal User user) {
+        GradeBatchResponse response = this.gradeService.createBatch(request, user);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PutMapping("{id}")
+    public ResponseEntity<GradeResponse> update(@PathVariable("id") UUID id, @RequestBody UpdateGradeRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @AuthenticationPrincipal User user) {
+        Grade grade = this.gradeService.update(id, request, ifMatch, user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(grade.getId(), grade.getVersion())).body(GradeResponse.from(grade));
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id, @AuthenticationPrincipal User user) {
+        this.gradeService.delete(id, user);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
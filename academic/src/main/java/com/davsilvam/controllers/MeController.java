@@ -0,0 +1,25 @@
+package com.davsilvam.controllers;
+
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.dtos.DashboardResponse;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("me")
+@RequiredArgsConstructor
+public class MeController {
+    private final DashboardService dashboardService;
+
+    @GetMapping("dashboard")
+    public ResponseEntity<DashboardResponse> dashboard(@AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.dashboardService.getETag(user), () -> this.dashboardService.get(user));
+    }
+}
@@ -0,0 +1,55 @@
+package com.davsilvam.controllers;
+
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.dtos.CreateProfessorRequest;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.professor.dtos.UpdateProfessorRequest;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.ProfessorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("professors")
+@RequiredArgsConstructor
+public class ProfessorController {
+    private final ProfessorService professorService;
+
+    @GetMapping("{id}")
+    public ResponseEntity<ProfessorResponse> get(@PathVariable("id") UUID id, @AuthenticationPrincipal User user, WebRequest request) {
+        Professor professor = this.professorService.get(id, user);
+        return ETags.conditional(request, ETags.of(professor.getId(), professor.getVersion()), () -> ProfessorResponse.from(professor));
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<ProfessorResponse>> fetch(@RequestParam(value = "cursor", required = false) UUID cursor, @RequestParam(value = "size", required = false) Integer size, @AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.professorService.fetchETag(user), () -> this.professorService.fetch(cursor, size, user));
+    }
+
+    @PostMapping
+    public ResponseEntity<ProfessorResponse> create(@RequestBody CreateProfessorRequest request, @AuthenticationPrincipal User user) {
+        ProfessorResponse response = ProfessorResponse.from(this.professorService.create(request, user));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("{id}")
+    public ResponseEntity<ProfessorResponse> update(@PathVariable("id") UUID id, @RequestBody UpdateProfessorRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @AuthenticationPrincipal User user) {
+        Professor professor = this.professorService.update(id, request, ifMatch, user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(professor.getId(), professor.getVersion())).body(ProfessorResponse.from(professor));
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id, @AuthenticationPrincipal User user) {
+        this.professorService.delete(id, user);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
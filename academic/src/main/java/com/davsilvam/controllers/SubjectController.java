@@ -0,0 +1,79 @@
+package com.davsilvam.controllers;
+
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectExpansion;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.davsilvam.domain.subject.dtos.SubjectStatsResponse;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryResponse;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectProfessorsRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectRequest;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.SubjectService;
+import com.davsilvam.services.SubjectSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("subjects")
+@RequiredArgsConstructor
+public class SubjectController {
+    private final SubjectService subjectService;
+    private final SubjectSummaryService subjectSummaryService;
+
+    @GetMapping("{id}")
+    public ResponseEntity<SubjectResponse> get(@PathVariable("id") UUID id, @RequestParam(value = "expand", required = false) String expand, @AuthenticationPrincipal User user, WebRequest request) {
+        Set<SubjectExpansion> expansions = SubjectExpansion.parse(expand);
+        return ETags.conditional(request, this.subjectService.getETag(id, expansions, user), () -> this.subjectService.get(id, expansions, user));
+    }
+
+    @GetMapping("{id}/stats")
+    public ResponseEntity<SubjectStatsResponse> stats(@PathVariable("id") UUID id, @AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.subjectService.statsETag(id, user), () -> this.subjectService.stats(id, user));
+    }
+
+    @GetMapping("summaries")
+    public ResponseEntity<CursorPage<SubjectSummaryResponse>> summaries(@RequestParam(value = "cursor", required = false) UUID cursor, @RequestParam(value = "size", required = false) Integer size, @AuthenticationPrincipal User user, WebRequest request) {
+        return ETags.conditional(request, this.subjectSummaryService.fetchETag(user), () -> this.subjectSummaryService.fetch(cursor, size, user));
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<SubjectResponse>> fetch(@RequestParam(value = "cursor", required = false) UUID cursor, @RequestParam(value = "size", required = false) Integer size, @RequestParam(value = "expand", required = false) String expand, @AuthenticationPrincipal User user, WebRequest request) {
+        Set<SubjectExpansion> expansions = SubjectExpansion.parse(expand);
+        return ETags.conditional(request, this.subjectService.fetchETag(expansions, user), () -> this.subjectService.fetch(cursor, size, expansions, user));
+    }
+
+    @PostMapping
+    public ResponseEntity<SubjectResponse> create(@RequestBody CreateSubjectRequest request, @AuthenticationPrincipal User user) {
+        SubjectResponse response = SubjectResponse.withProfessors(this.subjectService.create(request, user));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PutMapping("{id}")
+    public ResponseEntity<SubjectResponse> update(@PathVariable("id") UUID id, @RequestBody UpdateSubjectRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @AuthenticationPrincipal User user) {
+        Subject subject = this.subjectService.update(id, request, ifMatch, user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(subject.getId(), subject.getVersion())).body(SubjectResponse.from(subject));
+    }
+
+    @PutMapping("{id}/professors")
+    public ResponseEntity<SubjectResponse> updateProfessors(@PathVariable("id") UUID id, @RequestBody UpdateSubjectProfessorsRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, @AuthenticationPrincipal User user) {
+        Subject subject = this.subjectService.updateProfessors(id, request, ifMatch, user);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(subject.getId(), subject.getVersion())).body(SubjectResponse.withProfessors(subject));
+    }
+
+    @DeleteMapping("{id}")
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id, @AuthenticationPrincipal User user) {
+        this.subjectService.delete(id, user);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
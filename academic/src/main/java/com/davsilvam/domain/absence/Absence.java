@@ -1,37 +1,51 @@
 package com.davsilvam.domain.absence;
 
 import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.infra.persistence.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity(name = "absences")
 @Table(name = "absences")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Absence {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    private Date date;
+    private LocalDate date;
 
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private Integer amount;
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "subject_id")
     @JsonIgnoreProperties({"absences", "grades", "professors"})
     private Subject subject;
 
-    public Absence(Date date, Integer amount, Subject subject) {
+    public Absence(LocalDate date, Integer amount, Subject subject) {
+        this.date = date;
+        this.amount = amount;
+        this.subject = subject;
+    }
+
+    public Absence(UUID id, LocalDate date, Integer amount, Subject subject) {
+        this.id = id;
         this.date = date;
         this.amount = amount;
         this.subject = subject;
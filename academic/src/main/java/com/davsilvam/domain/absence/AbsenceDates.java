@@ -0,0 +1,75 @@
+package com.davsilvam.domain.absence;
+
+import com.davsilvam.infra.time.CachedToday;
+
+import java.time.Clock;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * The dd/MM/yyyy format absences are exchanged in, both in requests and in responses.
+ * Requests and imports are parsed with the shared, strict, thread-safe {@link #FORMATTER}; JSON responses are
+ * written by Jackson from {@link #PATTERN}.
+ */
+public final class AbsenceDates {
+    public static final String PATTERN = "dd/MM/yyyy";
+
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final CachedToday TODAY = new CachedToday(Clock.systemDefaultZone());
+
+    private AbsenceDates() {
+    }
+
+    /**
+     * Returns the parsed date, or {@code null} if the value is not a valid dd/MM/yyyy date.
+     * The fields are read with {@link DateTimeFormatter#parseUnresolved} and resolved here, because
+     * {@link LocalDate#parse} reports invalid input by throwing, which is costly for rejected import rows.
+     */
+    public static LocalDate parse(CharSequence value) {
+        if (value == null || value.length() != 10) {
+            return null;
+        }
+
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor fields = FORMATTER.parseUnresolved(value, position);
+
+        if (fields == null || position.getErrorIndex() >= 0 || position.getIndex() != value.length()) {
+            return null;
+        }
+
+        long day = fields.getLong(ChronoField.DAY_OF_MONTH);
+        long month = fields.getLong(ChronoField.MONTH_OF_YEAR);
+        long year = fields.getLong(ChronoField.YEAR);
+
+        if (day < 1 || month < 1 || month > 12 || year < 1 || year > 9999) {
+            return null;
+        }
+
+        if (day > lengthOfMonth((int) month, (int) year)) {
+            return null;
+        }
+
+        return LocalDate.of((int) year, (int) month, (int) day);
+    }
+
+    /**
+     * Today's date in the system zone, cached until midnight.
+     */
+    public static LocalDate today() {
+        return TODAY.get();
+    }
+
+    private static int lengthOfMonth(int month, int year) {
+        return switch (month) {
+            case 2 -> Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
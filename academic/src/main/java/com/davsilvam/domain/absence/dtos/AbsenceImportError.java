@@ -0,0 +1,4 @@
+package com.davsilvam.domain.absence.dtos;
+
+public record AbsenceImportError(long line, String error) {
+}
@@ -0,0 +1,9 @@
+package com.davsilvam.domain.absence.dtos;
+
+import java.util.List;
+
+/**
+ * Only the first rejected rows are listed in {@code errors}; {@code rejected} always has the full count.
+ */
+public record AbsenceImportResponse(long imported, long rejected, List<AbsenceImportError> errors) {
+}
@@ -0,0 +1,15 @@
+package com.davsilvam.domain.absence.dtos;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record AbsenceResponse(UUID id, @JsonFormat(pattern = AbsenceDates.PATTERN) LocalDate date, Integer amount, UUID subject_id) {
+    public static AbsenceResponse from(@NotNull Absence absence) {
+        return new AbsenceResponse(absence.getId(), absence.getDate(), absence.getAmount(), absence.getSubject().getId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.davsilvam.domain.absence.exceptions;
+
+public class InvalidAbsenceAmountException extends RuntimeException {
+    public InvalidAbsenceAmountException() {
+        super("Invalid absence amount.");
+    }
+
+    public InvalidAbsenceAmountException(String message) {
+        super(message);
+    }
+}
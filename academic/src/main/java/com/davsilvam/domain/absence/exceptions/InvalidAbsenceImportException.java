@@ -0,0 +1,11 @@
+package com.davsilvam.domain.absence.exceptions;
+
+public class InvalidAbsenceImportException extends RuntimeException {
+    public InvalidAbsenceImportException() {
+        super("Invalid absence import.");
+    }
+
+    public InvalidAbsenceImportException(String message) {
+        super(message);
+    }
+}
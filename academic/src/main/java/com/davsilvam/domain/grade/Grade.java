@@ -1,9 +1,10 @@
 package com.davsilvam.domain.grade;
 
 import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.infra.persistence.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,18 +14,24 @@ import java.util.UUID;
 @Entity(name = "grades")
 @Table(name = "grades")
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class Grade {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String name;
 
     private Float value;
 
+    /**
+     * Incremented by Hibernate on every update. The ETags of a grade, and of the lists that contain it, derive from it.
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "subject_id")
     @JsonIgnoreProperties({"grades", "absences", "professors"})
@@ -35,4 +42,11 @@ public class Grade {
         this.value = value;
         this.subject = subject;
     }
+
+    public Grade(UUID id, String name, Float value, Subject subject) {
+        this.id = id;
+        this.name = name;
+        this.value = value;
+        this.subject = subject;
+    }
 }
@@ -0,0 +1,20 @@
+package com.davsilvam.domain.grade.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * The outcome of one grade of a batch, identified by its position in the request.
+ * Created grades carry their id, rejected ones the reason they were not created.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GradeBatchItemResponse(int index, UUID id, String error) {
+    public static GradeBatchItemResponse created(int index, UUID id) {
+        return new GradeBatchItemResponse(index, id, null);
+    }
+
+    public static GradeBatchItemResponse rejected(int index, String error) {
+        return new GradeBatchItemResponse(index, null, error);
+    }
+}
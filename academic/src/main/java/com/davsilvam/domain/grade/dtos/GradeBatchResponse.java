@@ -0,0 +1,6 @@
+package com.davsilvam.domain.grade.dtos;
+
+import java.util.List;
+
+public record GradeBatchResponse(int created, int rejected, List<GradeBatchItemResponse> results) {
+}
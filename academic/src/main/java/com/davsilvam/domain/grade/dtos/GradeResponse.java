@@ -0,0 +1,12 @@
+package com.davsilvam.domain.grade.dtos;
+
+import com.davsilvam.domain.grade.Grade;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+public record GradeResponse(UUID id, String name, Float value, UUID subject_id) {
+    public static GradeResponse from(@NotNull Grade grade) {
+        return new GradeResponse(grade.getId(), grade.getName(), grade.getValue(), grade.getSubject().getId());
+    }
+}
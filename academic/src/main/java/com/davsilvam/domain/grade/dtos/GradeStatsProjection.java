@@ -0,0 +1,8 @@
+package com.davsilvam.domain.grade.dtos;
+
+/**
+ * Aggregates of the grades of one subject, computed by the database.
+ * The average, minimum and maximum are {@code null} when the subject has no grades.
+ */
+public record GradeStatsProjection(Long count, Double average, Float min, Float max) {
+}
@@ -0,0 +1,11 @@
+package com.davsilvam.domain.grade.exceptions;
+
+public class InvalidGradeBatchException extends RuntimeException {
+    public InvalidGradeBatchException() {
+        super("Invalid grade batch.");
+    }
+
+    public InvalidGradeBatchException(String message) {
+        super(message);
+    }
+}
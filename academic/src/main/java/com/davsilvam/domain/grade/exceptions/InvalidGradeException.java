@@ -0,0 +1,11 @@
+package com.davsilvam.domain.grade.exceptions;
+
+public class InvalidGradeException extends RuntimeException {
+    public InvalidGradeException() {
+        super("Invalid grade.");
+    }
+
+    public InvalidGradeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.davsilvam.domain.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page size limits shared by the keyset-paginated list endpoints.
+ * Pages are always ordered by id and continued with an "id greater than cursor" predicate,
+ * so only the size is ever taken from the client.
+ */
+public final class Pagination {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    public static Pageable limit(Integer size) {
+        if (size == null) {
+            return PageRequest.ofSize(DEFAULT_SIZE);
+        }
+
+        return PageRequest.ofSize(Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.davsilvam.domain.pagination.dtos;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, UUID next_cursor, boolean has_next) {
+    public static <T> CursorPage<T> of(@NotNull Slice<T> slice, @NotNull Function<T, UUID> idExtractor) {
+        return of(slice.getContent(), slice.hasNext(), idExtractor);
+    }
+
+    public static <T> CursorPage<T> of(@NotNull List<T> items, boolean hasNext, @NotNull Function<T, UUID> idExtractor) {
+        UUID nextCursor = hasNext && !items.isEmpty() ? idExtractor.apply(items.get(items.size() - 1)) : null;
+
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+}
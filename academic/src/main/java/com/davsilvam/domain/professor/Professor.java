@@ -2,12 +2,17 @@ package com.davsilvam.domain.professor;
 
 import com.davsilvam.domain.subject.Subject;
 import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.persistence.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,22 +24,35 @@ import java.util.UUID;
 @AllArgsConstructor
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Professor.CACHE_REGION)
 public class Professor {
+    public static final String CACHE_REGION = "professors";
+    public static final String SUBJECTS_CACHE_REGION = "professors.subjects";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String name;
 
     private String email;
 
-    @ManyToOne
+    /**
+     * Not incremented when the professor joins or leaves a subject, because the subject owns that association.
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"professors", "subjects"})
     private User user;
 
     @ManyToMany(mappedBy = "professors")
     @JsonIgnoreProperties({"professors", "user", "absences", "grades"})
+    @BatchSize(size = Subject.BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Professor.SUBJECTS_CACHE_REGION)
     private List<Subject> subjects;
 
     public Professor(String name, String email, User user) {
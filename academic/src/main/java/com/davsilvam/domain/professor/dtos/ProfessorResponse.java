@@ -0,0 +1,12 @@
+package com.davsilvam.domain.professor.dtos;
+
+import com.davsilvam.domain.professor.Professor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+public record ProfessorResponse(UUID id, String name, String email) {
+    public static ProfessorResponse from(@NotNull Professor professor) {
+        return new ProfessorResponse(professor.getId(), professor.getName(), professor.getEmail());
+    }
+}
@@ -4,12 +4,18 @@ import com.davsilvam.domain.user.User;
 import com.davsilvam.domain.absence.Absence;
 import com.davsilvam.domain.grade.Grade;
 import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.infra.persistence.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,16 +26,37 @@ import java.util.UUID;
 @AllArgsConstructor
 @Getter
 @Setter
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Subject.CACHE_REGION)
 public class Subject {
+    /**
+     * How many subjects (or professors) get a lazy collection initialized by a single query,
+     * matching the maximum page size so a page never needs more than one query per collection.
+     */
+    public static final int BATCH_SIZE = Pagination.MAX_SIZE;
+
+    /**
+     * Second-level cache regions, sized in ehcache.xml. Grades and absences are written far more often than they are
+     * read back through the entity collections, so only the subject itself and its professors are cached.
+     */
+    public static final String CACHE_REGION = "subjects";
+    public static final String PROFESSORS_CACHE_REGION = "subjects.professors";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String name;
 
     private String description;
 
-    @ManyToOne
+    /**
+     * Also incremented when the professors are replaced, since the subject owns that association.
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @JsonIgnoreProperties({"subjects", "professors"})
     private User user;
@@ -37,14 +64,18 @@ public class Subject {
     @ManyToMany
     @JoinTable(name = "subjects_professors", joinColumns = @JoinColumn(name = "subject_id"), inverseJoinColumns = @JoinColumn(name = "professor_id"))
     @JsonIgnoreProperties({"user", "subjects"})
+    @BatchSize(size = Subject.BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Subject.PROFESSORS_CACHE_REGION)
     private List<Professor> professors;
 
     @OneToMany(mappedBy = "subject")
     @JsonIgnoreProperties("subject")
+    @BatchSize(size = Subject.BATCH_SIZE)
     private List<Grade> grades;
 
     @OneToMany(mappedBy = "subject")
     @JsonIgnoreProperties("subject")
+    @BatchSize(size = Subject.BATCH_SIZE)
     private List<Absence> absences;
 
     public Subject(String name, String description, User user) {
@@ -0,0 +1,37 @@
+package com.davsilvam.domain.subject;
+
+import com.davsilvam.domain.subject.exceptions.InvalidSubjectExpansionException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum SubjectExpansion {
+    PROFESSORS,
+    GRADES,
+    ABSENCES;
+
+    public static Set<SubjectExpansion> parse(String expand) {
+        EnumSet<SubjectExpansion> expansions = EnumSet.noneOf(SubjectExpansion.class);
+
+        if (expand == null || expand.isBlank()) {
+            return expansions;
+        }
+
+        for (String value : expand.split(",")) {
+            String name = value.trim();
+
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            try {
+                expansions.add(SubjectExpansion.valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException exception) {
+                throw new InvalidSubjectExpansionException("Invalid expand value '" + name + "', please use professors, grades or absences.");
+            }
+        }
+
+        return expansions;
+    }
+}
@@ -0,0 +1,43 @@
+package com.davsilvam.domain.subject;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Running grade and absence totals of one subject, kept up to date by the services that write grades and absences,
+ * so a summary of every subject can be read without aggregating those tables.
+ */
+@Entity(name = SubjectSummary.TABLE)
+@Table(name = SubjectSummary.TABLE)
+@NoArgsConstructor
+@Getter
+public class SubjectSummary {
+    public static final String TABLE = "subject_summaries";
+
+    @Id
+    private UUID subjectId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "subject_id")
+    private Subject subject;
+
+    private long gradeCount;
+
+    private double gradeSum;
+
+    private long absenceTotal;
+
+    private Instant updatedAt;
+
+    private long revision;
+
+    public SubjectSummary(Subject subject) {
+        this.subject = subject;
+        this.updatedAt = Instant.now();
+    }
+}
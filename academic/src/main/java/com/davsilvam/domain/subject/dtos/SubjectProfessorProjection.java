@@ -0,0 +1,15 @@
+package com.davsilvam.domain.subject.dtos;
+
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+
+import java.util.UUID;
+
+/**
+ * A professor row tagged with the subject it was loaded for, so professors of a whole page of subjects
+ * can be read with one query and grouped back in memory.
+ */
+public record SubjectProfessorProjection(UUID subjectId, UUID id, String name, String email) {
+    public ProfessorResponse toResponse() {
+        return new ProfessorResponse(this.id, this.name, this.email);
+    }
+}
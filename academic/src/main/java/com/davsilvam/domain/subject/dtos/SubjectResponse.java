@@ -0,0 +1,37 @@
+package com.davsilvam.domain.subject.dtos;
+
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.Subject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The collections are only present when they were asked for through the {@code expand} parameter.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SubjectResponse(UUID id, String name, String description, List<ProfessorResponse> professors, List<GradeResponse> grades, List<AbsenceResponse> absences) {
+    public SubjectResponse(UUID id, String name, String description) {
+        this(id, name, description, null, null, null);
+    }
+
+    public static SubjectResponse from(@NotNull Subject subject) {
+        return new SubjectResponse(subject.getId(), subject.getName(), subject.getDescription());
+    }
+
+    public static SubjectResponse withProfessors(@NotNull Subject subject) {
+        List<ProfessorResponse> professors = subject.getProfessors() == null
+                ? List.of()
+                : subject.getProfessors().stream().map(ProfessorResponse::from).toList();
+
+        return new SubjectResponse(subject.getId(), subject.getName(), subject.getDescription(), professors, null, null);
+    }
+
+    public SubjectResponse expand(List<ProfessorResponse> professors, List<GradeResponse> grades, List<AbsenceResponse> absences) {
+        return new SubjectResponse(this.id, this.name, this.description, professors, grades, absences);
+    }
+}
@@ -0,0 +1,11 @@
+package com.davsilvam.domain.subject.dtos;
+
+import com.davsilvam.domain.grade.dtos.GradeStatsProjection;
+
+import java.util.UUID;
+
+public record SubjectStatsResponse(UUID subject_id, long grade_count, Double grade_average, Float grade_min, Float grade_max, long absence_total) {
+    public static SubjectStatsResponse of(UUID subjectId, GradeStatsProjection grades, long absenceTotal) {
+        return new SubjectStatsResponse(subjectId, grades.count(), grades.average(), grades.min(), grades.max(), absenceTotal);
+    }
+}
@@ -0,0 +1,26 @@
+package com.davsilvam.domain.subject.dtos;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A subject with its maintained totals. The totals are {@code null} if the subject has no summary row yet,
+ * which only happens until the next rebuild, and are then reported as zero.
+ */
+public record SubjectSummaryProjection(UUID subjectId, String name, String description, Long gradeCount, Double gradeSum, Long absenceTotal, Instant updatedAt) {
+    public SubjectSummaryResponse toResponse() {
+        return new SubjectSummaryResponse(this.subjectId, this.name, this.grades(), this.gradeAverage(), this.absences(), this.updatedAt);
+    }
+
+    public long grades() {
+        return this.gradeCount == null ? 0 : this.gradeCount;
+    }
+
+    public Double gradeAverage() {
+        return this.grades() == 0 ? null : this.gradeSum / this.grades();
+    }
+
+    public long absences() {
+        return this.absenceTotal == null ? 0 : this.absenceTotal;
+    }
+}
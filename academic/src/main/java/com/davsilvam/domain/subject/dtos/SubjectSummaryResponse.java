@@ -0,0 +1,7 @@
+package com.davsilvam.domain.subject.dtos;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SubjectSummaryResponse(UUID subject_id, String name, long grade_count, Double grade_average, long absence_total, Instant updated_at) {
+}
@@ -0,0 +1,11 @@
+package com.davsilvam.domain.subject.exceptions;
+
+public class InvalidSubjectExpansionException extends RuntimeException {
+    public InvalidSubjectExpansionException() {
+        super("Invalid subject expansion.");
+    }
+
+    public InvalidSubjectExpansionException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.davsilvam.domain.user;
 
 import com.davsilvam.domain.professor.Professor;
 import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.infra.persistence.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -24,7 +25,7 @@ import java.util.UUID;
 @JsonIgnoreProperties({"passwordHash", "authorities", "accountNonExpired", "accountNonLocked", "credentialsNonExpired", "enabled", "password", "username"})
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     private String name;
@@ -34,6 +35,12 @@ public class User implements UserDetails {
 
     private String passwordHash;
 
+    /**
+     * Incremented in the database by {@code UserRepository.incrementRevision}, never written from the entity.
+     */
+    @Column(insertable = false, updatable = false)
+    private long revision;
+
     @OneToMany(mappedBy = "user")
     @JsonIgnoreProperties("user")
     private List<Subject> subjects;
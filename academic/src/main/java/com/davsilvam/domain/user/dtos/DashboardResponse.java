@@ -0,0 +1,9 @@
+package com.davsilvam.domain.user.dtos;
+
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DashboardResponse(UUID id, String name, String email, List<DashboardSubjectResponse> subjects, List<ProfessorResponse> professors) {
+}
@@ -0,0 +1,14 @@
+package com.davsilvam.domain.user.dtos;
+
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryProjection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DashboardSubjectResponse(UUID id, String name, String description, List<ProfessorResponse> professors, long grade_count, Double grade_average, long absence_total) {
+    public static DashboardSubjectResponse of(@NotNull SubjectSummaryProjection subject, @NotNull List<ProfessorResponse> professors) {
+        return new DashboardSubjectResponse(subject.subjectId(), subject.name(), subject.description(), professors, subject.grades(), subject.gradeAverage(), subject.absences());
+    }
+}
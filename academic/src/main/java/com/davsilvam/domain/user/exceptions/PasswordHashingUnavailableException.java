@@ -0,0 +1,7 @@
+package com.davsilvam.domain.user.exceptions;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.davsilvam.domain.version.dtos;
+
+/**
+ * Fingerprint of a set of rows, aggregated in the database without loading them.
+ * The version sum moves on every update and the count on every delete. Inserts move the revision of the rows' owner,
+ * a counter incremented in the same transaction as every insert and delete, so replacing a row with a new one changes
+ * the stamp too. Neither the ids nor the clocks are relied on: rows created before UUIDv7 ids sort above the new ones.
+ */
+public record VersionStamp(Long count, Long versionSum, Long revision) {
+}
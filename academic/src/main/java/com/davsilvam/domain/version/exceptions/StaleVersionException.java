@@ -0,0 +1,11 @@
+package com.davsilvam.domain.version.exceptions;
+
+public class StaleVersionException extends RuntimeException {
+    public StaleVersionException() {
+        super("Resource was modified since it was read, please fetch it again.");
+    }
+
+    public StaleVersionException(String message) {
+        super(message);
+    }
+}
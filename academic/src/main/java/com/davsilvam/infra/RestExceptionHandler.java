@@ -0,0 +1,139 @@
+package com.davsilvam.infra;
+
+
+import com.davsilvam.domain.absence.exceptions.AbsenceNotFoundException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceAmountException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceDateException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceImportException;
+import com.davsilvam.domain.grade.exceptions.GradeNotFoundException;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeBatchException;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeException;
+import com.davsilvam.domain.professor.exceptions.ProfessorNotFoundException;
+import com.davsilvam.domain.subject.exceptions.InvalidSubjectExpansionException;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.exceptions.EmailAlreadyUsedException;
+import com.davsilvam.domain.user.exceptions.PasswordHashingUnavailableException;
+import com.davsilvam.domain.user.exceptions.TooManyLoginAttemptsException;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+@ControllerAdvice
+public class RestExceptionHandler extends ResponseEntityExceptionHandler {
+    @NotNull
+    @ExceptionHandler(EmailAlreadyUsedException.class)
+    private ResponseEntity<String> emailAlreadyUsedHandler(@NotNull EmailAlreadyUsedException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(UsernameNotFoundException.class)
+    private ResponseEntity<String> usernameNotFoundHandler(@NotNull UsernameNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(SubjectNotFoundException.class)
+    private ResponseEntity<String> subjectNotFoundHandler(@NotNull SubjectNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(ProfessorNotFoundException.class)
+    private ResponseEntity<String> professorNotFoundHandler(@NotNull ProfessorNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(GradeNotFoundException.class)
+    private ResponseEntity<String> gradeNotFoundHandler(@NotNull GradeNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidGradeBatchException.class)
+    private ResponseEntity<String> invalidGradeBatchHandler(@NotNull InvalidGradeBatchException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidGradeException.class)
+    private ResponseEntity<String> invalidGradeHandler(@NotNull InvalidGradeException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(AbsenceNotFoundException.class)
+    private ResponseEntity<String> absenceNotFoundHandler(@NotNull AbsenceNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidAbsenceAmountException.class)
+    private ResponseEntity<String> invalidAbsenceAmountHandler(@NotNull InvalidAbsenceAmountException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidAbsenceDateException.class)
+    private ResponseEntity<String> invalidAbsenceDateHandler(@NotNull InvalidAbsenceDateException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidAbsenceImportException.class)
+    private ResponseEntity<String> invalidAbsenceImportHandler(@NotNull InvalidAbsenceImportException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(InvalidSubjectExpansionException.class)
+    private ResponseEntity<String> invalidSubjectExpansionHandler(@NotNull InvalidSubjectExpansionException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(UserUnauthorizedException.class)
+    private ResponseEntity<String> userUnauthorizedHandler(@NotNull UserUnauthorizedException exception) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    private ResponseEntity<String> tooManyLoginAttemptsHandler(@NotNull TooManyLoginAttemptsException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    private ResponseEntity<String> passwordHashingUnavailableHandler(@NotNull PasswordHashingUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exception.getMessage());
+    }
+
+    @NotNull
+    @ExceptionHandler(StaleVersionException.class)
+    private ResponseEntity<String> staleVersionHandler(@NotNull StaleVersionException exception) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(exception.getMessage());
+    }
+
+    /**
+     * Another write committed between this one's read and its flush, so the versioned update matched no row.
+     */
+    @NotNull
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    private ResponseEntity<String> optimisticLockingFailureHandler(@NotNull OptimisticLockingFailureException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Resource was modified concurrently, please fetch it again.");
+    }
+}
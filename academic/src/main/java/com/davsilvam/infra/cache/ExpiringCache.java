@@ -0,0 +1,88 @@
+package com.davsilvam.infra.cache;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, thread-safe cache whose entries expire at an absolute instant.
+ * When the cache is full, expired entries are purged first and, if that is not enough,
+ * arbitrary entries are dropped until the cache is back under its low-water mark.
+ */
+public class ExpiringCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maximumSize;
+    private final int lowWaterMark;
+
+    public ExpiringCache(int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maximumSize, @NotNull Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        }
+
+        this.clock = clock;
+        this.maximumSize = maximumSize;
+        this.lowWaterMark = maximumSize - Math.max(1, maximumSize / 10);
+    }
+
+    public V get(@NotNull K key) {
+        Entry<V> entry = this.entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt() <= this.clock.millis()) {
+            this.entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.value();
+    }
+
+    public void put(@NotNull K key, @NotNull V value, @NotNull Duration timeToLive) {
+        this.put(key, value, this.clock.millis() + timeToLive.toMillis());
+    }
+
+    public void put(@NotNull K key, @NotNull V value, long expiresAtMillis) {
+        if (this.entries.size() >= this.maximumSize && !this.entries.containsKey(key)) {
+            this.evict();
+        }
+
+        this.entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(@NotNull K key) {
+        this.entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    private void evict() {
+        long now = this.clock.millis();
+        this.entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        Iterator<K> keys = this.entries.keySet().iterator();
+
+        while (this.entries.size() > this.lowWaterMark && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.davsilvam.infra.http;
+
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags derived from resource versions instead of response bodies, so a conditional GET is answered
+ * before the response is loaded or serialized.
+ */
+public final class ETags {
+    private ETags() {
+    }
+
+    /**
+     * Hashes the given versions into a quoted strong ETag. Null parts stand for collections that were not requested.
+     */
+    public static String of(Object... parts) {
+        MessageDigest digest = sha256();
+
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Answers 304 Not Modified if the request's If-None-Match still matches the ETag, and only builds the body otherwise.
+     * Either way the ETag header is set by the request check.
+     */
+    public static <T> ResponseEntity<T> conditional(@NotNull WebRequest request, @NotNull String etag, @NotNull Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(body.get());
+    }
+
+    /**
+     * Rejects a write whose If-Match names none of the current ETag. A missing header or "*" accepts any version,
+     * and weak ETags never match, as If-Match requires a strong comparison.
+     */
+    public static void requireMatch(String ifMatch, @NotNull String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+
+            if (value.equals("*") || value.equals(etag)) {
+                return;
+            }
+        }
+
+        throw new StaleVersionException();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    }
+}
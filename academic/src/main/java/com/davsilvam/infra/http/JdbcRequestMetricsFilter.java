@@ -0,0 +1,54 @@
+package com.davsilvam.infra.http;
+
+import com.davsilvam.infra.persistence.JdbcActivity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per endpoint, how many JDBC statements each request executed ({@code http.server.requests.jdbc.statements})
+ * and how long they took ({@code http.server.requests.jdbc}), with the same method, uri and status tags as Spring's
+ * {@code http.server.requests} timer for the whole request. Runs before the security filters, so the principal lookup
+ * is counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS = "http.server.requests.jdbc.statements";
+    public static final String TIME = "http.server.requests.jdbc";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain) throws ServletException, IOException {
+        JdbcActivity activity = JdbcActivity.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            activity.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString(), "status", String.valueOf(response.getStatus()));
+
+            DistributionSummary.builder(STATEMENTS).baseUnit("statements").tags(tags).register(this.meterRegistry).record(activity.getStatements());
+            Timer.builder(TIME).tags(tags).register(this.meterRegistry).record(activity.getNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
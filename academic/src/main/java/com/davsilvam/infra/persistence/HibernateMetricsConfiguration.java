@@ -0,0 +1,21 @@
+package com.davsilvam.infra.persistence;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the Hibernate statistics as Micrometer meters, including the second-level cache hits, misses and puts
+ * per region ({@code hibernate.second.level.cache.requests} and {@code hibernate.second.level.cache.puts}).
+ */
+@Configuration
+public class HibernateMetricsConfiguration {
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty());
+    }
+}
@@ -0,0 +1,49 @@
+package com.davsilvam.infra.persistence;
+
+/**
+ * The JDBC statements Hibernate executed on the current thread while a recording was open, and the time spent
+ * executing them. A batch counts as one statement, since it is one round trip.
+ * Fed by {@link JdbcActivityListener}.
+ */
+public final class JdbcActivity {
+    private static final ThreadLocal<JdbcActivity> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private JdbcActivity() {
+    }
+
+    /**
+     * Opens a recording for the current thread, replacing any previous one.
+     */
+    public static JdbcActivity start() {
+        JdbcActivity activity = new JdbcActivity();
+        CURRENT.set(activity);
+
+        return activity;
+    }
+
+    static JdbcActivity current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    void record(long nanos) {
+        this.statements++;
+        this.nanos += nanos;
+    }
+
+    public int getStatements() {
+        return this.statements;
+    }
+
+    public long getNanos() {
+        return this.nanos;
+    }
+}
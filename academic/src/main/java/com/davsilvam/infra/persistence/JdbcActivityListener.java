@@ -0,0 +1,39 @@
+package com.davsilvam.infra.persistence;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Reports each statement and batch execution of a session to the {@link JdbcActivity} of the current thread, if one is
+ * being recorded. Hibernate creates one listener per session, as configured by {@code hibernate.session.events.auto}.
+ */
+public class JdbcActivityListener implements SessionEventListener {
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        this.startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        this.record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        this.startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        this.record();
+    }
+
+    private void record() {
+        JdbcActivity activity = JdbcActivity.current();
+
+        if (activity != null) {
+            activity.record(System.nanoTime() - this.startedAt);
+        }
+    }
+}
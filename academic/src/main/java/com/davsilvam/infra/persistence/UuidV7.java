@@ -0,0 +1,18 @@
+package com.davsilvam.infra.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated {@link java.util.UUID} id as a time-ordered UUIDv7 (RFC 9562), so new rows are appended
+ * to the right edge of the primary key index instead of landing on a random page of it.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
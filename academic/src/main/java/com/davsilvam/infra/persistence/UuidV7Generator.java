@@ -0,0 +1,52 @@
+package com.davsilvam.infra.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 layout: 48 bits of Unix epoch milliseconds, the version, a 12 bit counter and 62 random bits.
+ * The counter keeps ids generated within the same millisecond increasing; when it overflows the id borrows the
+ * next millisecond, which also keeps ids increasing if the wall clock moves backwards.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    public static UUID next() {
+        long timestampAndCounter = nextTimestampAndCounter();
+
+        long mostSignificantBits = (timestampAndCounter >>> 12) << 16 | 0x7000L | (timestampAndCounter & 0xFFFL);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static long nextTimestampAndCounter() {
+        long now = System.currentTimeMillis() << 12;
+
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_COUNTER.get();
+            long next = now > last ? now : last + 1;
+
+            if (LAST_TIMESTAMP_AND_COUNTER.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
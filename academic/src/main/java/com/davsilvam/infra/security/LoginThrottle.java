@@ -0,0 +1,46 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.domain.user.exceptions.TooManyLoginAttemptsException;
+import com.davsilvam.infra.throttle.TokenBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts per client address and per email before any password is checked, since every attempt costs
+ * a BCrypt verification. The client limit stops a single source from cycling through emails, and the email limit
+ * stops many sources from guessing one account.
+ */
+@Component
+public class LoginThrottle {
+    private final TokenBuckets clients;
+    private final TokenBuckets emails;
+
+    public LoginThrottle(@Value("${api.security.login-throttle.per-client.capacity:20}") int clientCapacity,
+                         @Value("${api.security.login-throttle.per-client.refill-interval:3s}") Duration clientRefillInterval,
+                         @Value("${api.security.login-throttle.per-email.capacity:5}") int emailCapacity,
+                         @Value("${api.security.login-throttle.per-email.refill-interval:12s}") Duration emailRefillInterval,
+                         @Value("${api.security.login-throttle.maximum-keys:50000}") int maximumKeys) {
+        this.clients = new TokenBuckets(clientCapacity, clientRefillInterval, maximumKeys, Clock.systemUTC());
+        this.emails = new TokenBuckets(emailCapacity, emailRefillInterval, maximumKeys, Clock.systemUTC());
+    }
+
+    public void acquire(String email, String client) {
+        if (client != null) {
+            this.check(this.clients.tryAcquire(client));
+        }
+
+        if (email != null) {
+            this.check(this.emails.tryAcquire(email.trim().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    private void check(long waitMillis) {
+        if (waitMillis > 0) {
+            throw new TooManyLoginAttemptsException("Too many login attempts, please try again later.", Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.cache.ExpiringCache;
+import com.davsilvam.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Resolves token subjects to {@link UserPrincipal}s, keeping recently seen users in memory
+ * so that authenticated requests do not hit the users table on every call.
+ * Unknown emails are not cached, so a user who registers after a failed lookup is found on the next request.
+ * Whatever changes a user's row must call {@link #invalidate(String)} so the next request reads it again.
+ */
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepository;
+    private final ExpiringCache<String, UserPrincipal> users;
+    private final Duration timeToLive;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${api.security.principal-cache.time-to-live:5m}") Duration timeToLive,
+                          @Value("${api.security.principal-cache.maximum-size:10000}") int maximumSize) {
+        this.userRepository = userRepository;
+        this.users = new ExpiringCache<>(maximumSize);
+        this.timeToLive = timeToLive;
+    }
+
+    public UserPrincipal load(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+
+        UserPrincipal principal = this.users.get(email);
+
+        if (principal == null) {
+            User user = this.userRepository.findByEmail(email);
+
+            if (user != null) {
+                principal = UserPrincipal.from(user);
+                this.users.put(email, principal, this.timeToLive);
+            }
+        }
+
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            this.users.invalidate(email);
+        }
+    }
+}
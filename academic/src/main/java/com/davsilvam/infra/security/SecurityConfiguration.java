@@ -1,7 +1,12 @@
 package com.davsilvam.infra.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -31,6 +36,7 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
@@ -41,8 +47,24 @@ public class SecurityConfiguration {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt on a pool of {@code hashing-threads}, so a burst of logins cannot take every request thread and CPU.
+     * With {@code hashing-threads} at 0 the hashes run on the request threads.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${api.security.password.strength:10}") int strength,
+                                           @Value("${api.security.password.hashing-threads:2}") int threads,
+                                           @Value("${api.security.password.queue-capacity:50}") int queueCapacity,
+                                           @NotNull MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+
+        if (threads <= 0) {
+            return encoder;
+        }
+
+        BoundedPasswordEncoder boundedEncoder = new BoundedPasswordEncoder(encoder, threads, queueCapacity);
+        new ExecutorServiceMetrics(boundedEncoder.getExecutor(), "password.hashing", Tags.empty()).bindTo(meterRegistry);
+
+        return boundedEncoder;
     }
 }
@@ -0,0 +1,98 @@
+package com.davsilvam.infra.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTCreationException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.cache.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+@Service
+public class TokenService {
+    private static final String ISSUER = "academic";
+
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final ExpiringCache<String, String> verifiedTokens;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.verified-cache-size:10000}") int verifiedCacheSize) {
+        this(Algorithm.HMAC256(secret), verifiedCacheSize);
+    }
+
+    /**
+     * Signs and verifies with the same algorithm instance.
+     */
+    private TokenService(Algorithm algorithm, int verifiedCacheSize) {
+        this(algorithm, JWT.require(algorithm).withIssuer(ISSUER).build(), verifiedCacheSize, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Takes the verifier and the clock the verified tokens expire by, which should be the one the verifier checks
+     * expiration dates with.
+     */
+    TokenService(Algorithm algorithm, JWTVerifier verifier, int verifiedCacheSize, Clock clock) {
+        this.algorithm = algorithm;
+        this.verifier = verifier;
+        this.verifiedTokens = new ExpiringCache<>(verifiedCacheSize, clock);
+        this.clock = clock;
+    }
+
+    public String generateToken(User user) throws RuntimeException {
+        try {
+            return JWT.create().withIssuer(ISSUER).withSubject(user.getEmail()).withClaim("id", user.getId().toString()).withExpiresAt(generateExpirationDate()).sign(this.algorithm);
+        } catch (JWTCreationException exception) {
+            throw new RuntimeException("Error while generating token.", exception);
+        }
+    }
+
+    private Instant generateExpirationDate() {
+        return LocalDateTime.now(this.clock).plusHours(2).toInstant(ZoneOffset.of("-03:00"));
+    }
+
+    public String validateToken(String token) {
+        String key = hash(token);
+        String subject = this.verifiedTokens.get(key);
+
+        if (subject != null) {
+            return subject;
+        }
+
+        try {
+            DecodedJWT decoded = this.verifier.verify(token);
+
+            if (decoded.getSubject() != null && decoded.getExpiresAtAsInstant() != null) {
+                this.verifiedTokens.put(key, decoded.getSubject(), decoded.getExpiresAtAsInstant().toEpochMilli());
+            }
+
+            return decoded.getSubject();
+        } catch (JWTVerificationException exception) {
+            return "";
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.domain.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What {@link PrincipalCache} keeps of a user: the fields requests read, without the password hash or the lazy
+ * collections of the entity, so a cached principal is small, immutable and safe to share between requests.
+ */
+public record UserPrincipal(UUID id, String name, String email, List<GrantedAuthority> authorities) {
+    public static UserPrincipal from(@NotNull User user) {
+        return new UserPrincipal(user.getId(), user.getName(), user.getEmail(), List.of());
+    }
+
+    /**
+     * A detached {@link User} holding only these fields. Each request gets its own, since the services take a User.
+     */
+    public User toUser() {
+        return new User(this.id, this.name, this.email, null);
+    }
+}
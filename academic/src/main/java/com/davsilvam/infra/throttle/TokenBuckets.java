@@ -0,0 +1,131 @@
+package com.davsilvam.infra.throttle;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by string, each holding up to {@code capacity} tokens and regaining one every
+ * {@code refillInterval}. A bucket is a single {@link AtomicLong} with the instant at which it will be full again
+ * (the GCRA formulation of a token bucket), so taking a token is one compare-and-set, without locks.
+ * Full buckets carry no state, so when {@code maximumKeys} is reached they are dropped. A bucket that still holds
+ * a debt is never dropped, or flooding the map with made-up keys would hand a throttled key a fresh bucket: while
+ * no bucket can be dropped, keys that are not in the map share a single overflow bucket instead.
+ * A bucket is retired with a compare-and-set before it leaves the map, so a token is never taken from a bucket that
+ * is being dropped: either the token is taken first and the bucket is no longer full and stays, or the taker sees
+ * the bucket retired and goes back to the map for the current one.
+ */
+public class TokenBuckets {
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Clock clock;
+    private final long intervalMillis;
+    private final long burstMillis;
+    private final int maximumKeys;
+
+    // No bucket becomes full before this instant, so there is nothing to evict until then. Buckets created after
+    // an eviction are full one interval after it at the earliest, so it is never further away than that
+    private volatile long nextEvictionAt;
+
+    public TokenBuckets(int capacity, @NotNull Duration refillInterval, int maximumKeys, @NotNull Clock clock) {
+        if (capacity <= 0 || maximumKeys <= 0 || refillInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Capacity, refill interval and maximum keys must be positive.");
+        }
+
+        this.clock = clock;
+        this.intervalMillis = refillInterval.toMillis();
+        this.burstMillis = this.intervalMillis * (capacity - 1);
+        this.maximumKeys = maximumKeys;
+        this.overflow = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * Takes a token from the bucket of the key, returning 0 if there was one, or else how many milliseconds until
+     * the next token, without taking anything.
+     */
+    public long tryAcquire(@NotNull String key) {
+        long now = this.clock.millis();
+
+        while (true) {
+            AtomicLong bucket = this.bucket(key, now);
+            long fullAt;
+
+            while ((fullAt = bucket.get()) != RETIRED) {
+                long start = Math.max(fullAt, now);
+
+                if (start - now > this.burstMillis) {
+                    return start - this.burstMillis - now;
+                }
+
+                if (bucket.compareAndSet(fullAt, start + this.intervalMillis)) {
+                    return 0;
+                }
+            }
+
+            // Retired by an eviction since it was looked up; make sure it is gone and look the key up again
+            this.buckets.remove(key, bucket);
+        }
+    }
+
+    public int size() {
+        return this.buckets.size();
+    }
+
+    private AtomicLong bucket(@NotNull String key, long now) {
+        AtomicLong bucket = this.buckets.get(key);
+
+        if (bucket == null) {
+            if (this.buckets.size() >= this.maximumKeys) {
+                this.evict(now);
+
+                if (this.buckets.size() >= this.maximumKeys) {
+                    return this.overflow;
+                }
+            }
+
+            AtomicLong created = new AtomicLong(now);
+            bucket = this.buckets.putIfAbsent(key, created);
+            bucket = bucket == null ? created : bucket;
+        }
+
+        return bucket;
+    }
+
+    private void evict(long now) {
+        // One thread evicts at a time; the others go on with the overflow bucket meanwhile
+        if (now < this.nextEvictionAt || !this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long nextEvictionAt = now + this.intervalMillis;
+
+            for (Map.Entry<String, AtomicLong> entry : this.buckets.entrySet()) {
+                AtomicLong bucket = entry.getValue();
+                long fullAt = bucket.get();
+
+                if (fullAt == RETIRED) {
+                    continue;
+                }
+
+                if (fullAt <= now && bucket.compareAndSet(fullAt, RETIRED)) {
+                    this.buckets.remove(entry.getKey(), bucket);
+                } else {
+                    nextEvictionAt = Math.min(nextEvictionAt, Math.max(fullAt, now + 1));
+                }
+            }
+
+            this.nextEvictionAt = nextEvictionAt;
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.davsilvam.infra.time;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Today's date in the clock's zone, resolved once per day instead of on every call.
+ * Reading it costs a volatile read and a millisecond comparison; the date is only recomputed once the clock
+ * passes the next midnight.
+ */
+public final class CachedToday {
+    private final Clock clock;
+
+    private volatile Day day;
+
+    public CachedToday(@NotNull Clock clock) {
+        this.clock = clock;
+        this.day = Day.of(clock);
+    }
+
+    public LocalDate get() {
+        Day current = this.day;
+
+        if (this.clock.millis() < current.nextMidnightMillis()) {
+            return current.date();
+        }
+
+        Day next = Day.of(this.clock);
+        this.day = next;
+
+        return next.date();
+    }
+
+    private record Day(LocalDate date, long nextMidnightMillis) {
+        static Day of(@NotNull Clock clock) {
+            LocalDate date = LocalDate.now(clock);
+            long nextMidnightMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+
+            return new Day(date, nextMidnightMillis);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AbsenceRepository extends JpaRepository<Absence, UUID> {
+    @Query("select new com.davsilvam.domain.absence.dtos.AbsenceResponse(a.id, a.date, a.amount, a.subject.id) from absences a where a.subject.id = :subjectId order by a.id")
+    Slice<AbsenceResponse> findPageBySubjectId(@Param("subjectId") UUID subjectId, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.absence.dtos.AbsenceResponse(a.id, a.date, a.amount, a.subject.id) from absences a where a.subject.id = :subjectId and a.id > :cursor order by a.id")
+    Slice<AbsenceResponse> findPageBySubjectIdAfter(@Param("subjectId") UUID subjectId, @Param("cursor") UUID cursor, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.absence.dtos.AbsenceResponse(a.id, a.date, a.amount, a.subject.id) from absences a where a.subject.id in :subjectIds order by a.id")
+    List<AbsenceResponse> findAllBySubjectIdIn(@Param("subjectIds") Collection<UUID> subjectIds);
+
+    @Query("select coalesce(sum(a.amount), 0) from absences a where a.subject.id = :subjectId")
+    long sumAmountBySubjectId(@Param("subjectId") UUID subjectId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(a), sum(a.version), (select ss.revision from subject_summaries ss where ss.subjectId = :subjectId)) from absences a where a.subject.id = :subjectId")
+    VersionStamp getVersionStampBySubjectId(@Param("subjectId") UUID subjectId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(a), sum(a.version), (select sum(ss.revision) from subject_summaries ss where ss.subject.user.id = :userId)) from absences a where a.subject.user.id = :userId")
+    VersionStamp getVersionStampBySubjectUserId(@Param("userId") UUID userId);
+
+    @Query("select a from absences a join fetch a.subject s join fetch s.user u where a.id = :id and u.id = :userId")
+    Optional<Absence> findByIdAndSubjectUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+}
@@ -0,0 +1,39 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.grade.dtos.GradeStatsProjection;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface GradeRepository extends JpaRepository<Grade, UUID> {
+    @Query("select new com.davsilvam.domain.grade.dtos.GradeResponse(g.id, g.name, g.value, g.subject.id) from grades g where g.subject.id = :subjectId order by g.id")
+    Slice<GradeResponse> findPageBySubjectId(@Param("subjectId") UUID subjectId, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.grade.dtos.GradeResponse(g.id, g.name, g.value, g.subject.id) from grades g where g.subject.id = :subjectId and g.id > :cursor order by g.id")
+    Slice<GradeResponse> findPageBySubjectIdAfter(@Param("subjectId") UUID subjectId, @Param("cursor") UUID cursor, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.grade.dtos.GradeResponse(g.id, g.name, g.value, g.subject.id) from grades g where g.subject.id in :subjectIds order by g.id")
+    List<GradeResponse> findAllBySubjectIdIn(@Param("subjectIds") Collection<UUID> subjectIds);
+
+    @Query("select new com.davsilvam.domain.grade.dtos.GradeStatsProjection(count(g), avg(g.value), min(g.value), max(g.value)) from grades g where g.subject.id = :subjectId")
+    GradeStatsProjection getStatsBySubjectId(@Param("subjectId") UUID subjectId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(g), sum(g.version), (select ss.revision from subject_summaries ss where ss.subjectId = :subjectId)) from grades g where g.subject.id = :subjectId")
+    VersionStamp getVersionStampBySubjectId(@Param("subjectId") UUID subjectId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(g), sum(g.version), (select sum(ss.revision) from subject_summaries ss where ss.subject.user.id = :userId)) from grades g where g.subject.user.id = :userId")
+    VersionStamp getVersionStampBySubjectUserId(@Param("userId") UUID userId);
+
+    @Query("select g from grades g join fetch g.subject s join fetch s.user u where g.id = :id and u.id = :userId")
+    Optional<Grade> findByIdAndSubjectUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+}
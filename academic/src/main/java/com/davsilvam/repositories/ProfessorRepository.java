@@ -0,0 +1,33 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProfessorRepository extends JpaRepository<Professor, UUID> {
+    @Query("select new com.davsilvam.domain.professor.dtos.ProfessorResponse(p.id, p.name, p.email) from professors p where p.user.id = :userId order by p.id")
+    Slice<ProfessorResponse> findPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.professor.dtos.ProfessorResponse(p.id, p.name, p.email) from professors p where p.user.id = :userId and p.id > :cursor order by p.id")
+    Slice<ProfessorResponse> findPageByUserIdAfter(@Param("userId") UUID userId, @Param("cursor") UUID cursor, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.professor.dtos.ProfessorResponse(p.id, p.name, p.email) from professors p where p.user.id = :userId order by p.id")
+    List<ProfessorResponse> findAllByUserId(@Param("userId") UUID userId);
+
+    List<Professor> findAllByIdInAndUserId(Collection<UUID> ids, UUID userId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(p), sum(p.version), (select u.revision from users u where u.id = :userId)) from professors p where p.user.id = :userId")
+    VersionStamp getVersionStampByUserId(@Param("userId") UUID userId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(p), sum(p.version), (select u.revision from subjects o join o.user u where o.id = :subjectId)) from subjects s join s.professors p where s.id = :subjectId")
+    VersionStamp getVersionStampBySubjectId(@Param("subjectId") UUID subjectId);
+}
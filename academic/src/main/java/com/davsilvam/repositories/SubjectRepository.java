@@ -0,0 +1,35 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.dtos.SubjectProfessorProjection;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SubjectRepository extends JpaRepository<Subject, UUID> {
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectResponse(s.id, s.name, s.description) from subjects s where s.user.id = :userId order by s.id")
+    Slice<SubjectResponse> findPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectResponse(s.id, s.name, s.description) from subjects s where s.user.id = :userId and s.id > :cursor order by s.id")
+    Slice<SubjectResponse> findPageByUserIdAfter(@Param("userId") UUID userId, @Param("cursor") UUID cursor, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectProfessorProjection(s.id, p.id, p.name, p.email) from subjects s join s.professors p where s.id in :subjectIds order by p.id")
+    List<SubjectProfessorProjection> findProfessorsBySubjectIdIn(@Param("subjectIds") Collection<UUID> subjectIds);
+
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectProfessorProjection(s.id, p.id, p.name, p.email) from subjects s join s.professors p where s.user.id = :userId order by p.id")
+    List<SubjectProfessorProjection> findProfessorsBySubjectUserId(@Param("userId") UUID userId);
+
+    @Query("select s from subjects s join fetch s.user u where s.id in :ids and u.id = :userId")
+    List<Subject> findAllByIdInAndUserId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(s), sum(s.version), (select u.revision from users u where u.id = :userId)) from subjects s where s.user.id = :userId")
+    VersionStamp getVersionStampByUserId(@Param("userId") UUID userId);
+}
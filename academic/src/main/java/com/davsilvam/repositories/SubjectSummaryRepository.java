@@ -0,0 +1,152 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.subject.SubjectSummary;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryProjection;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface SubjectSummaryRepository extends JpaRepository<SubjectSummary, UUID> {
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectSummaryProjection(s.id, s.name, s.description, ss.gradeCount, ss.gradeSum, ss.absenceTotal, ss.updatedAt) from subjects s left join subject_summaries ss on ss.subjectId = s.id where s.user.id = :userId order by s.id")
+    Slice<SubjectSummaryProjection> findPageByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectSummaryProjection(s.id, s.name, s.description, ss.gradeCount, ss.gradeSum, ss.absenceTotal, ss.updatedAt) from subjects s left join subject_summaries ss on ss.subjectId = s.id where s.user.id = :userId and s.id > :cursor order by s.id")
+    Slice<SubjectSummaryProjection> findPageByUserIdAfter(@Param("userId") UUID userId, @Param("cursor") UUID cursor, Pageable pageable);
+
+    @Query("select new com.davsilvam.domain.subject.dtos.SubjectSummaryProjection(s.id, s.name, s.description, ss.gradeCount, ss.gradeSum, ss.absenceTotal, ss.updatedAt) from subjects s left join subject_summaries ss on ss.subjectId = s.id where s.user.id = :userId order by s.id")
+    List<SubjectSummaryProjection> findAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Stamps the subjects the summaries are listed from, so renames and deletes change the summaries' ETag.
+     */
+    @Query("select new com.davsilvam.domain.version.dtos.VersionStamp(count(s), sum(s.version), (select u.revision from users u where u.id = :userId)) from subjects s where s.user.id = :userId")
+    VersionStamp getVersionStampByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Every grade and absence write, and every repair by the rebuild, increments the revision of the summary it
+     * touches, so the sum moves on any change to the totals while the set of subjects stays the same.
+     */
+    @Query("select sum(ss.revision) from subject_summaries ss where ss.subject.user.id = :userId")
+    Long getRevisionByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Adds the deltas to the subject's totals in place, so concurrent writers never overwrite each other.
+     * Returns 0 if the subject has no summary row.
+     */
+    @Modifying
+    @Query("update subject_summaries ss set ss.gradeCount = ss.gradeCount + :gradeCount, ss.gradeSum = ss.gradeSum + :gradeSum, ss.absenceTotal = ss.absenceTotal + :absenceTotal, ss.updatedAt = :updatedAt, ss.revision = ss.revision + 1 where ss.subjectId = :subjectId")
+    int increment(@Param("subjectId") UUID subjectId, @Param("gradeCount") long gradeCount, @Param("gradeSum") double gradeSum, @Param("absenceTotal") long absenceTotal, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Creates the missing summary row of the subject from the grades and absences tables. Returns 0 if another
+     * transaction created it first, in which case the caller increments that row instead.
+     * The native writes list the tables they read and write, so Hibernate flushes pending grades and absences first
+     * and leaves the cached subjects and professors alone instead of evicting every second-level cache region.
+     */
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SubjectSummary.TABLE),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grades"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "absences")
+    })
+    @Query(value = """
+            insert into subject_summaries (subject_id, grade_count, grade_sum, absence_total, updated_at)
+            select s.id,
+                   (select count(*) from grades g where g.subject_id = s.id),
+                   (select coalesce(sum(g.value), 0) from grades g where g.subject_id = s.id),
+                   (select coalesce(sum(a.amount), 0) from absences a where a.subject_id = s.id),
+                   current_timestamp
+            from subjects s
+            where s.id = :subjectId
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertMissing(@Param("subjectId") UUID subjectId);
+
+    @Modifying
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SubjectSummary.TABLE),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grades"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "absences")
+    })
+    @Query(value = """
+            insert into subject_summaries (subject_id, grade_count, grade_sum, absence_total, updated_at)
+            select s.id,
+                   (select count(*) from grades g where g.subject_id = s.id),
+                   (select coalesce(sum(g.value), 0) from grades g where g.subject_id = s.id),
+                   (select coalesce(sum(a.amount), 0) from absences a where a.subject_id = s.id),
+                   current_timestamp
+            from subjects s
+            where not exists (select 1 from subject_summaries ss where ss.subject_id = s.id)
+            on conflict do nothing
+            """, nativeQuery = true)
+    int insertAllMissing();
+
+    /**
+     * Lists the subjects whose totals drifted from the grades and absences tables, in lock order, without locking.
+     */
+    @Query(value = """
+            select cast(ss.subject_id as varchar)
+            from subject_summaries ss
+            where ss.grade_count <> (select count(*) from grades g where g.subject_id = ss.subject_id)
+               or abs(ss.grade_sum - (select coalesce(sum(g.value), 0) from grades g where g.subject_id = ss.subject_id)) > 0.0001
+               or ss.absence_total <> (select coalesce(sum(a.amount), 0) from absences a where a.subject_id = ss.subject_id)
+            order by ss.subject_id
+            """, nativeQuery = true)
+    List<String> findDriftedSubjectIds();
+
+    /**
+     * Locks the summary rows of the subjects, in subject order like the writers that touch several rows, so no grade
+     * or absence write can increment a row between the snapshot {@link #repairDrifted(List)} counts from and its update.
+     */
+    @Query(value = "select cast(ss.subject_id as varchar) from subject_summaries ss where ss.subject_id in (:subjectIds) order by ss.subject_id for update", nativeQuery = true)
+    List<String> lock(@Param("subjectIds") List<UUID> subjectIds);
+
+    /**
+     * Recomputes those of the subjects' totals that still drift, in one short transaction that holds only their
+     * rows locked, so writes to every other subject go on during a rebuild.
+     */
+    @Transactional
+    default int lockAndRepair(List<UUID> subjectIds) {
+        this.lock(subjectIds);
+
+        return this.repairDrifted(subjectIds);
+    }
+
+    /**
+     * Recomputes the totals of the subjects that drifted from the grades and absences tables, leaving the correct
+     * rows untouched. Must run after {@link #lock(List)} in the same transaction: on its own, a write committing while
+     * the update waits for its row would be overwritten with the count from the update's older snapshot.
+     */
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SubjectSummary.TABLE),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "grades"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "absences")
+    })
+    @Query(value = """
+            update subject_summaries ss
+            set grade_count   = (select count(*) from grades g where g.subject_id = ss.subject_id),
+                grade_sum     = (select coalesce(sum(g.value), 0) from grades g where g.subject_id = ss.subject_id),
+                absence_total = (select coalesce(sum(a.amount), 0) from absences a where a.subject_id = ss.subject_id),
+                updated_at    = current_timestamp,
+                revision      = ss.revision + 1
+            where ss.subject_id in (:subjectIds)
+              and (ss.grade_count <> (select count(*) from grades g where g.subject_id = ss.subject_id)
+                or abs(ss.grade_sum - (select coalesce(sum(g.value), 0) from grades g where g.subject_id = ss.subject_id)) > 0.0001
+                or ss.absence_total <> (select coalesce(sum(a.amount), 0) from absences a where a.subject_id = ss.subject_id))
+            """, nativeQuery = true)
+    int repairDrifted(@Param("subjectIds") List<UUID> subjectIds);
+}
@@ -0,0 +1,22 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, UUID> {
+    User findByEmail(String email);
+
+    /**
+     * Marks that the user's subjects or professors gained or lost a row, which their version stamps cannot see alone.
+     */
+    @Modifying
+    @Query("update users u set u.revision = u.revision + 1 where u.id = :id")
+    int incrementRevision(@Param("id") UUID id);
+}
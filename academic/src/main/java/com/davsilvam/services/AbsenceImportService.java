@@ -0,0 +1,207 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.davsilvam.domain.absence.dtos.AbsenceImportError;
+import com.davsilvam.domain.absence.dtos.AbsenceImportResponse;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceImportException;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.repositories.AbsenceRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Imports absences from a "subject_id,date,amount" CSV. The body is read one line at a time and rows are
+ * persisted in chunks, clearing the persistence context after each one, so memory use does not depend on the
+ * size of the file. The whole import runs in one transaction: it is either fully applied or not at all.
+ * Dates are read by {@link AbsenceDates#parse}, with the shared strict {@link AbsenceDates#FORMATTER}, so a rejected
+ * date costs no exception.
+ * The subject summaries are updated once, at the end, with the totals of the whole file: an update after each chunk
+ * would hold their rows locked, blocking every grade and absence write on those subjects, until the import commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class AbsenceImportService {
+    public static final int CHUNK_SIZE = 1_000;
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String HEADER = "subject_id,date,amount";
+
+    private final AbsenceRepository absenceRepository;
+    private final OwnershipService ownershipService;
+    private final SubjectSummaryService subjectSummaryService;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public AbsenceImportResponse importCsv(@NotNull InputStream body, @NotNull User user) {
+        Map<UUID, Boolean> ownedSubjects = new HashMap<>();
+        Map<UUID, Long> totals = new TreeMap<>(SubjectSummaryService.LOCK_ORDER);
+        List<AbsenceImportError> errors = new ArrayList<>();
+        List<String[]> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+        long imported = 0;
+        long rejected = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank() || (lineNumber == 1 && line.trim().equalsIgnoreCase(HEADER))) {
+                    continue;
+                }
+
+                chunk.add(line.split(",", -1));
+                chunkLines.add(lineNumber);
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    int saved = this.importChunk(chunk, chunkLines, ownedSubjects, totals, errors, user);
+                    imported += saved;
+                    rejected += chunk.size() - saved;
+                    chunk.clear();
+                    chunkLines.clear();
+                }
+            }
+        } catch (IOException exception) {
+            throw new InvalidAbsenceImportException("Could not read the uploaded file.");
+        }
+
+        if (!chunk.isEmpty()) {
+            int saved = this.importChunk(chunk, chunkLines, ownedSubjects, totals, errors, user);
+            imported += saved;
+            rejected += chunk.size() - saved;
+        }
+
+        totals.forEach(this.subjectSummaryService::recordAbsences);
+
+        return new AbsenceImportResponse(imported, rejected, errors);
+    }
+
+    private int importChunk(@NotNull List<String[]> rows, @NotNull List<Long> lines, @NotNull Map<UUID, Boolean> ownedSubjects, @NotNull Map<UUID, Long> totals, @NotNull List<AbsenceImportError> errors, @NotNull User user) {
+        this.resolveOwnership(rows, ownedSubjects, user);
+
+        LocalDate today = AbsenceDates.today();
+        List<Absence> absences = new ArrayList<>(rows.size());
+
+        for (int index = 0; index < rows.size(); index++) {
+            String[] columns = rows.get(index);
+            LocalDate date = columns.length == 3 ? AbsenceDates.parse(columns[1].trim()) : null;
+            String error = this.validate(columns, date, ownedSubjects, today);
+
+            if (error != null) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new AbsenceImportError(lines.get(index), error));
+                }
+
+                continue;
+            }
+
+            Subject subject = this.entityManager.getReference(Subject.class, UUID.fromString(columns[0].trim()));
+
+            Absence absence = new Absence(date, Integer.parseInt(columns[2].trim()), subject);
+            absences.add(absence);
+            totals.merge(subject.getId(), (long) absence.getAmount(), Long::sum);
+        }
+
+        this.absenceRepository.saveAll(absences);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return absences.size();
+    }
+
+    /**
+     * Looks up, with one query per chunk, the subjects referenced for the first time in this import.
+     */
+    private void resolveOwnership(@NotNull List<String[]> rows, @NotNull Map<UUID, Boolean> ownedSubjects, @NotNull User user) {
+        Set<UUID> unknown = new HashSet<>();
+
+        for (String[] columns : rows) {
+            UUID subjectId = parseUuid(columns[0]);
+
+            if (subjectId != null && !ownedSubjects.containsKey(subjectId)) {
+                unknown.add(subjectId);
+            }
+        }
+
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> owned = this.ownershipService.findOwnedSubjects(unknown, user).keySet();
+        unknown.forEach(subjectId -> ownedSubjects.put(subjectId, owned.contains(subjectId)));
+    }
+
+    private String validate(@NotNull String[] columns, LocalDate date, @NotNull Map<UUID, Boolean> ownedSubjects, @NotNull LocalDate today) {
+        if (columns.length != 3) {
+            return "Expected 3 columns: " + HEADER + ".";
+        }
+
+        UUID subjectId = parseUuid(columns[0]);
+
+        if (subjectId == null || !ownedSubjects.getOrDefault(subjectId, false)) {
+            return "Subject not found.";
+        }
+
+        if (date == null) {
+            return "Invalid date format, please use " + AbsenceDates.PATTERN + ".";
+        }
+
+        if (date.isAfter(today)) {
+            return "Absence date cannot be in the future.";
+        }
+
+        if (!isAmount(columns[2].trim())) {
+            return "Amount must be a whole number between 1 and " + Short.MAX_VALUE + ".";
+        }
+
+        return null;
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private static boolean isAmount(String value) {
+        if (value.isEmpty() || value.length() > 5) {
+            return false;
+        }
+
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+
+        int amount = Integer.parseInt(value);
+
+        return amount >= 1 && amount <= Short.MAX_VALUE;
+    }
+}
@@ -0,0 +1,108 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.absence.dtos.CreateAbsenceRequest;
+import com.davsilvam.domain.absence.dtos.UpdateAbsenceRequest;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceAmountException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceDateException;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.AbsenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AbsenceService {
+    private final AbsenceRepository absenceRepository;
+    private final OwnershipService ownershipService;
+    private final SubjectSummaryService subjectSummaryService;
+
+    public Absence get(UUID id, @NotNull User user) {
+        return this.ownershipService.requireAbsence(id, user);
+    }
+
+    public CursorPage<AbsenceResponse> fetch(UUID subjectId, UUID cursor, Integer size, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(subjectId, user);
+
+        Pageable limit = Pagination.limit(size);
+        Slice<AbsenceResponse> absences = cursor == null
+                ? this.absenceRepository.findPageBySubjectId(subjectId, limit)
+                : this.absenceRepository.findPageBySubjectIdAfter(subjectId, cursor, limit);
+
+        return CursorPage.of(absences, AbsenceResponse::id);
+    }
+
+    public String fetchETag(UUID subjectId, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(subjectId, user);
+
+        return ETags.of(subjectId, this.absenceRepository.getVersionStampBySubjectId(subjectId));
+    }
+
+    @Transactional
+    public Absence create(@NotNull CreateAbsenceRequest request, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(request.subject_id(), user);
+
+        if (request.amount() == null) {
+            throw new InvalidAbsenceAmountException("Absence amount is required.");
+        }
+
+        LocalDate date = this.parseDate(request.date());
+        Absence absence = this.absenceRepository.save(new Absence(date, request.amount(), subject));
+        this.subjectSummaryService.recordAbsences(subject.getId(), absence.getAmount());
+
+        return absence;
+    }
+
+    @Transactional
+    public Absence update(UUID id, @NotNull UpdateAbsenceRequest request, String ifMatch, @NotNull User user) {
+        Absence absence = this.ownershipService.requireAbsence(id, user);
+        ETags.requireMatch(ifMatch, ETags.of(absence.getId(), absence.getVersion()));
+        int previousAmount = absence.getAmount();
+
+        if (request.date().isPresent()) {
+            absence.setDate(this.parseDate(request.date().get()));
+        }
+
+        absence.setAmount(request.amount().orElse(absence.getAmount()));
+
+        Absence updated = this.absenceRepository.save(absence);
+        this.subjectSummaryService.recordAbsences(absence.getSubject().getId(), updated.getAmount() - previousAmount);
+
+        return updated;
+    }
+
+    @Transactional
+    public void delete(UUID id, @NotNull User user) {
+        Absence absence = this.ownershipService.requireAbsence(id, user);
+
+        this.absenceRepository.delete(absence);
+        this.subjectSummaryService.recordAbsences(absence.getSubject().getId(), -absence.getAmount());
+    }
+
+    private LocalDate parseDate(String value) {
+        LocalDate date = AbsenceDates.parse(value);
+
+        if (date == null) {
+            throw new InvalidAbsenceDateException("Invalid date format, please use " + AbsenceDates.PATTERN + ".");
+        }
+
+        if (date.isAfter(AbsenceDates.today())) {
+            throw new InvalidAbsenceDateException("Absence date cannot be in the future.");
+        }
+
+        return date;
+    }
+}
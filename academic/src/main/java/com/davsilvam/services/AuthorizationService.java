@@ -6,6 +6,8 @@ import com.davsilvam.domain.user.dtos.LoginResponse;
 import com.davsilvam.domain.user.dtos.RegisterRequest;
 import com.davsilvam.domain.user.dtos.RegisterResponse;
 import com.davsilvam.domain.user.exceptions.EmailAlreadyUsedException;
+import com.davsilvam.infra.security.LoginThrottle;
+import com.davsilvam.infra.security.PrincipalCache;
 import com.davsilvam.infra.security.TokenService;
 import com.davsilvam.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,8 @@ public class AuthorizationService implements UserDetailsService {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final LoginThrottle loginThrottle;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -43,11 +47,14 @@ public class AuthorizationService implements UserDetailsService {
         User user = new User(request.name(), request.email(), encryptedPassword);
 
         User createdUser = this.userRepository.save(user);
+        this.principalCache.invalidate(createdUser.getEmail());
 
         return new RegisterResponse(createdUser.getId(), createdUser.getName(), createdUser.getEmail());
     }
 
-    public LoginResponse login(@NotNull LoginRequest request) {
+    public LoginResponse login(@NotNull LoginRequest request, String client) {
+        this.loginThrottle.acquire(request.email(), client);
+
         AuthenticationManager authenticationManager = this.applicationContext.getBean(AuthenticationManager.class);
 
         try {
@@ -0,0 +1,57 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.dtos.SubjectProfessorProjection;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.domain.user.dtos.DashboardResponse;
+import com.davsilvam.domain.user.dtos.DashboardSubjectResponse;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Everything a client needs on startup, read with three queries filtered by the user instead of one request
+ * per subject: the subjects with their maintained totals, the professors of those subjects, and the user's professors.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+    private final SubjectRepository subjectRepository;
+    private final ProfessorRepository professorRepository;
+    private final SubjectSummaryRepository subjectSummaryRepository;
+
+    public DashboardResponse get(@NotNull User user) {
+        Map<UUID, List<ProfessorResponse>> subjectProfessors = this.subjectRepository.findProfessorsBySubjectUserId(user.getId()).stream()
+                .collect(Collectors.groupingBy(SubjectProfessorProjection::subjectId, Collectors.mapping(SubjectProfessorProjection::toResponse, Collectors.toList())));
+
+        List<DashboardSubjectResponse> subjects = this.subjectSummaryRepository.findAllByUserId(user.getId()).stream()
+                .map(subject -> DashboardSubjectResponse.of(subject, subjectProfessors.getOrDefault(subject.subjectId(), List.of())))
+                .toList();
+
+        return new DashboardResponse(user.getId(), user.getName(), user.getEmail(), subjects, this.professorRepository.findAllByUserId(user.getId()));
+    }
+
+    /**
+     * Subject versions also move when their professors change, and the summaries' revisions cover every grade
+     * and absence write, so three aggregates stand in for the whole dashboard.
+     */
+    public String getETag(@NotNull User user) {
+        return ETags.of(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                this.subjectRepository.getVersionStampByUserId(user.getId()),
+                this.professorRepository.getVersionStampByUserId(user.getId()),
+                this.subjectSummaryRepository.getRevisionByUserId(user.getId())
+        );
+    }
+}
@@ -0,0 +1,167 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.GradeBatchItemResponse;
+import com.davsilvam.domain.grade.dtos.GradeBatchResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.grade.dtos.UpdateGradeRequest;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeBatchException;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeException;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.GradeRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class GradeService {
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    private final GradeRepository gradeService;
+    private final OwnershipService ownershipService;
+    private final SubjectSummaryService subjectSummaryService;
+
+    public Grade get(UUID id, @NotNull User user) {
+        return this.ownershipService.requireGrade(id, user);
+    }
+
+    public CursorPage<GradeResponse> fetch(UUID subjectId, UUID cursor, Integer size, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(subjectId, user);
+
+        Pageable limit = Pagination.limit(size);
+        Slice<GradeResponse> grades = cursor == null
+                ? this.gradeService.findPageBySubjectId(subjectId, limit)
+                : this.gradeService.findPageBySubjectIdAfter(subjectId, cursor, limit);
+
+        return CursorPage.of(grades, GradeResponse::id);
+    }
+
+    public String fetchETag(UUID subjectId, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(subjectId, user);
+
+        return ETags.of(subjectId, this.gradeService.getVersionStampBySubjectId(subjectId));
+    }
+
+    @Transactional
+    public Grade create(@NotNull CreateGradeRequest request, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(request.subject_id(), user);
+        String error = this.validate(request, Map.of(subject.getId(), subject));
+
+        if (error != null) {
+            throw new InvalidGradeException(error);
+        }
+
+        Grade grade = this.gradeService.save(new Grade(request.name(), request.value(), subject));
+        this.subjectSummaryService.recordGrades(subject.getId(), 1, grade.getValue());
+
+        return grade;
+    }
+
+    /**
+     * Creates every valid grade of the batch in one transaction, relying on JDBC batching for the inserts.
+     * Ownership is checked with one query for all distinct subjects, and invalid grades are reported back
+     * instead of failing the whole batch.
+     */
+    @Transactional
+    public GradeBatchResponse createBatch(@NotNull List<CreateGradeRequest> requests, @NotNull User user) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidGradeBatchException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " grades.");
+        }
+
+        Set<UUID> subjectIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateGradeRequest::subject_id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Subject> subjects = this.ownershipService.findOwnedSubjects(subjectIds, user);
+
+        String[] errors = new String[requests.size()];
+        List<Grade> grades = new ArrayList<>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateGradeRequest request = requests.get(index);
+            errors[index] = this.validate(request, subjects);
+
+            if (errors[index] == null) {
+                grades.add(new Grade(request.name(), request.value(), subjects.get(request.subject_id())));
+            }
+        }
+
+        Iterator<Grade> created = this.gradeService.saveAll(grades).iterator();
+        grades.stream()
+                .collect(Collectors.groupingBy(grade -> grade.getSubject().getId(), () -> new TreeMap<>(SubjectSummaryService.LOCK_ORDER), Collectors.summarizingDouble(Grade::getValue)))
+                .forEach((subjectId, totals) -> this.subjectSummaryService.recordGrades(subjectId, totals.getCount(), totals.getSum()));
+
+        List<GradeBatchItemResponse> results = new ArrayList<>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            results.add(errors[index] == null
+                    ? GradeBatchItemResponse.created(index, created.next().getId())
+                    : GradeBatchItemResponse.rejected(index, errors[index]));
+        }
+
+        return new GradeBatchResponse(grades.size(), requests.size() - grades.size(), results);
+    }
+
+    @Transactional
+    public Grade update(UUID id, @NotNull UpdateGradeRequest request, String ifMatch, @NotNull User user) {
+        Grade grade = this.ownershipService.requireGrade(id, user);
+        ETags.requireMatch(ifMatch, ETags.of(grade.getId(), grade.getVersion()));
+        float previousValue = grade.getValue();
+
+        grade.setName(request.name().orElse(grade.getName()));
+        grade.setValue(request.value().orElse(grade.getValue()));
+
+        Grade updated = this.gradeService.save(grade);
+        this.subjectSummaryService.recordGrades(grade.getSubject().getId(), 0, (double) updated.getValue() - previousValue);
+
+        return updated;
+    }
+
+    @Transactional
+    public void delete(UUID id, @NotNull User user) {
+        Grade grade = this.ownershipService.requireGrade(id, user);
+
+        this.gradeService.delete(grade);
+        this.subjectSummaryService.recordGrades(grade.getSubject().getId(), -1, -grade.getValue());
+    }
+
+    private String validate(CreateGradeRequest request, @NotNull Map<UUID, Subject> subjects) {
+        if (request == null) {
+            return "Grade is required.";
+        }
+
+        if (request.name() == null || request.name().isBlank()) {
+            return "Grade name is required.";
+        }
+
+        if (request.value() == null) {
+            return "Grade value is required.";
+        }
+
+        if (request.subject_id() == null || !subjects.containsKey(request.subject_id())) {
+            return "Subject not found.";
+        }
+
+        return null;
+    }
+}
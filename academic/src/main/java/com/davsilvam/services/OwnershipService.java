@@ -0,0 +1,97 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.exceptions.AbsenceNotFoundException;
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.exceptions.GradeNotFoundException;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.exceptions.ProfessorNotFoundException;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads resources only if they belong to the given user.
+ * Subjects and professors are read by id, so the second-level cache answers repeated checks without a query, and
+ * the owner is compared in memory. Grades and absences, which are not cached, are loaded with their owner in a single
+ * query, and the extra existence check that tells "not found" apart from "not yours" only runs when that query misses.
+ */
+@Service
+@RequiredArgsConstructor
+public class OwnershipService {
+    private final SubjectRepository subjectRepository;
+    private final ProfessorRepository professorRepository;
+    private final GradeRepository gradeRepository;
+    private final AbsenceRepository absenceRepository;
+
+    public Subject requireSubject(UUID id, @NotNull User user) {
+        Subject subject = this.subjectRepository.findById(id).orElseThrow(() -> new SubjectNotFoundException("Subject not found."));
+
+        if (!subject.getUser().getId().equals(user.getId())) {
+            throw new UserUnauthorizedException("User not allowed to access this subject.");
+        }
+
+        return subject;
+    }
+
+    public void requireSubjectAccess(UUID id, @NotNull User user) {
+        this.requireSubject(id, user);
+    }
+
+    /**
+     * Returns the subjects among the given ids that belong to the user, keyed by id, with a single query.
+     * Ids that are missing or belong to someone else are simply absent from the result.
+     */
+    public Map<UUID, Subject> findOwnedSubjects(@NotNull Collection<UUID> ids, @NotNull User user) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.subjectRepository.findAllByIdInAndUserId(ids, user.getId()).stream()
+                .collect(Collectors.toMap(Subject::getId, Function.identity()));
+    }
+
+    public Professor requireProfessor(UUID id, @NotNull User user) {
+        Professor professor = this.professorRepository.findById(id).orElseThrow(() -> new ProfessorNotFoundException("Professor not found."));
+
+        if (!professor.getUser().getId().equals(user.getId())) {
+            throw new UserUnauthorizedException("User not allowed to access this subject.");
+        }
+
+        return professor;
+    }
+
+    public Grade requireGrade(UUID id, @NotNull User user) {
+        return this.gradeRepository.findByIdAndSubjectUserId(id, user.getId()).orElseThrow(() -> {
+            if (this.gradeRepository.existsById(id)) {
+                return new UserUnauthorizedException("User not allowed to access this subject.");
+            }
+
+            return new GradeNotFoundException("Grade not found.");
+        });
+    }
+
+    public Absence requireAbsence(UUID id, @NotNull User user) {
+        return this.absenceRepository.findByIdAndSubjectUserId(id, user.getId()).orElseThrow(() -> {
+            if (this.absenceRepository.existsById(id)) {
+                return new UserUnauthorizedException("User not allowed to access this subject.");
+            }
+
+            return new AbsenceNotFoundException("Absence not found.");
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.professor.dtos.CreateProfessorRequest;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.professor.dtos.UpdateProfessorRequest;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ProfessorService {
+    private final ProfessorRepository professorRepository;
+    private final SubjectRepository subjectRepository;
+    private final OwnershipService ownershipService;
+    private final UserRepository userRepository;
+
+    public Professor get(UUID id, @NotNull User user) {
+        return this.ownershipService.requireProfessor(id, user);
+    }
+
+    public CursorPage<ProfessorResponse> fetch(UUID cursor, Integer size, @NotNull User user) {
+        Pageable limit = Pagination.limit(size);
+        Slice<ProfessorResponse> professors = cursor == null
+                ? this.professorRepository.findPageByUserId(user.getId(), limit)
+                : this.professorRepository.findPageByUserIdAfter(user.getId(), cursor, limit);
+
+        return CursorPage.of(professors, ProfessorResponse::id);
+    }
+
+    public String fetchETag(@NotNull User user) {
+        return ETags.of(this.professorRepository.getVersionStampByUserId(user.getId()));
+    }
+
+    @Transactional
+    public Professor create(@NotNull CreateProfessorRequest request, @NotNull User user) {
+        Professor professor = new Professor(request.name(), request.email(), user);
+        Professor created = this.professorRepository.save(professor);
+        this.userRepository.incrementRevision(user.getId());
+
+        return created;
+    }
+
+    @Transactional
+    public Professor update(UUID id, @NotNull UpdateProfessorRequest request, String ifMatch, @NotNull User user) {
+        Professor professor = this.ownershipService.requireProfessor(id, user);
+        ETags.requireMatch(ifMatch, ETags.of(professor.getId(), professor.getVersion()));
+
+        professor.setName(request.name().orElse(professor.getName()));
+        professor.setEmail(request.email().orElse(professor.getEmail()));
+
+        return this.professorRepository.save(professor);
+    }
+
+    @Transactional
+    public void delete(UUID id, @NotNull User user) {
+        Professor professor = this.ownershipService.requireProfessor(id, user);
+
+        professor.getSubjects().forEach(subject -> {
+            subject.removeProfessor(professor);
+            this.subjectRepository.save(subject);
+        });
+
+        this.professorRepository.delete(professor);
+        this.userRepository.incrementRevision(user.getId());
+    }
+}
@@ -0,0 +1,202 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectExpansion;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectProfessorsRequest;
+import com.davsilvam.domain.subject.dtos.SubjectProfessorProjection;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.davsilvam.domain.subject.dtos.SubjectStatsResponse;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectRequest;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SubjectService {
+    private final SubjectRepository subjectRepository;
+    private final ProfessorRepository professorRepository;
+    private final GradeRepository gradeRepository;
+    private final AbsenceRepository absenceRepository;
+    private final OwnershipService ownershipService;
+    private final SubjectSummaryService subjectSummaryService;
+    private final UserRepository userRepository;
+
+    public SubjectResponse get(UUID id, @NotNull Set<SubjectExpansion> expand, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(id, user);
+
+        return this.expand(List.of(SubjectResponse.from(subject)), expand).get(0);
+    }
+
+    public CursorPage<SubjectResponse> fetch(UUID cursor, Integer size, @NotNull Set<SubjectExpansion> expand, @NotNull User user) {
+        Pageable limit = Pagination.limit(size);
+        Slice<SubjectResponse> subjects = cursor == null
+                ? this.subjectRepository.findPageByUserId(user.getId(), limit)
+                : this.subjectRepository.findPageByUserIdAfter(user.getId(), cursor, limit);
+
+        return CursorPage.of(this.expand(subjects.getContent(), expand), subjects.hasNext(), SubjectResponse::id);
+    }
+
+    /**
+     * Derives the ETag of a subject from its version, usually read from the second-level cache, plus one aggregate
+     * query per requested expansion. Professors are stamped too, since renaming one does not touch the subject.
+     * Without expansions it is the same ETag the updates expect in If-Match.
+     */
+    public String getETag(UUID id, @NotNull Set<SubjectExpansion> expand, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(id, user);
+
+        if (expand.isEmpty()) {
+            return ETags.of(subject.getId(), subject.getVersion());
+        }
+
+        return ETags.of(
+                subject.getId(),
+                subject.getVersion(),
+                expand.contains(SubjectExpansion.PROFESSORS) ? this.professorRepository.getVersionStampBySubjectId(id) : null,
+                expand.contains(SubjectExpansion.GRADES) ? this.gradeRepository.getVersionStampBySubjectId(id) : null,
+                expand.contains(SubjectExpansion.ABSENCES) ? this.absenceRepository.getVersionStampBySubjectId(id) : null
+        );
+    }
+
+    /**
+     * Stamps every subject of the user rather than the requested page, which keeps the ETag independent of the page
+     * contents at the cost of changing whenever any subject does.
+     */
+    public String fetchETag(@NotNull Set<SubjectExpansion> expand, @NotNull User user) {
+        return ETags.of(
+                this.subjectRepository.getVersionStampByUserId(user.getId()),
+                expand.contains(SubjectExpansion.PROFESSORS) ? this.professorRepository.getVersionStampByUserId(user.getId()) : null,
+                expand.contains(SubjectExpansion.GRADES) ? this.gradeRepository.getVersionStampBySubjectUserId(user.getId()) : null,
+                expand.contains(SubjectExpansion.ABSENCES) ? this.absenceRepository.getVersionStampBySubjectUserId(user.getId()) : null
+        );
+    }
+
+    /**
+     * Computes the grade and absence aggregates in the database, without loading either collection.
+     */
+    public SubjectStatsResponse stats(UUID id, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(id, user);
+
+        return SubjectStatsResponse.of(id, this.gradeRepository.getStatsBySubjectId(id), this.absenceRepository.sumAmountBySubjectId(id));
+    }
+
+    public String statsETag(UUID id, @NotNull User user) {
+        this.ownershipService.requireSubjectAccess(id, user);
+
+        return ETags.of(id, this.gradeRepository.getVersionStampBySubjectId(id), this.absenceRepository.getVersionStampBySubjectId(id));
+    }
+
+    @Transactional
+    public Subject create(@NotNull CreateSubjectRequest request, @NotNull User user) {
+        List<Professor> professors = this.professorRepository.findAllByIdInAndUserId(request.professors_ids(), user.getId());
+
+        Subject subject = new Subject(request.name(), request.description(), user);
+        subject.setProfessors(professors);
+
+        if (!professors.isEmpty()) {
+            professors.forEach(professor -> professor.addSubject(subject));
+        }
+
+        Subject created = this.subjectRepository.save(subject);
+        this.subjectSummaryService.create(created);
+        this.userRepository.incrementRevision(user.getId());
+
+        return created;
+    }
+
+    @Transactional
+    public Subject update(UUID id, @NotNull UpdateSubjectRequest request, String ifMatch, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(id, user);
+        ETags.requireMatch(ifMatch, ETags.of(subject.getId(), subject.getVersion()));
+
+        subject.setName(request.name().orElse(subject.getName()));
+        subject.setDescription(request.description().orElse(subject.getDescription()));
+
+        return this.subjectRepository.save(subject);
+    }
+
+    @Transactional
+    public Subject updateProfessors(UUID id, @NotNull UpdateSubjectProfessorsRequest request, String ifMatch, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(id, user);
+        ETags.requireMatch(ifMatch, ETags.of(subject.getId(), subject.getVersion()));
+
+        List<Professor> subjectProfessors = subject.getProfessors();
+
+        if (subjectProfessors != null) {
+            subjectProfessors.forEach(professor -> professor.removeSubject(subject));
+        }
+
+        List<Professor> professors = this.professorRepository.findAllByIdInAndUserId(request.professors_ids(), user.getId());
+        subject.setProfessors(professors);
+        professors.forEach(professor -> professor.addSubject(subject));
+
+        return this.subjectRepository.save(subject);
+    }
+
+    @Transactional
+    public void delete(UUID id, @NotNull User user) {
+        Subject subject = this.ownershipService.requireSubject(id, user);
+
+        subject.getProfessors().forEach(professor -> {
+            professor.removeSubject(subject);
+            this.professorRepository.save(professor);
+        });
+
+        this.subjectRepository.delete(subject);
+        this.userRepository.incrementRevision(user.getId());
+    }
+
+    /**
+     * Loads each requested collection for the whole list with a single "subject id in (...)" query,
+     * instead of fetch-joining it into the paginated query or touching the lazy entity collections.
+     */
+    private List<SubjectResponse> expand(@NotNull List<SubjectResponse> subjects, @NotNull Set<SubjectExpansion> expand) {
+        if (subjects.isEmpty() || expand.isEmpty()) {
+            return subjects;
+        }
+
+        List<UUID> ids = subjects.stream().map(SubjectResponse::id).toList();
+
+        Map<UUID, List<ProfessorResponse>> professors = expand.contains(SubjectExpansion.PROFESSORS)
+                ? this.subjectRepository.findProfessorsBySubjectIdIn(ids).stream()
+                .collect(Collectors.groupingBy(SubjectProfessorProjection::subjectId, Collectors.mapping(SubjectProfessorProjection::toResponse, Collectors.toList())))
+                : null;
+        Map<UUID, List<GradeResponse>> grades = expand.contains(SubjectExpansion.GRADES)
+                ? this.gradeRepository.findAllBySubjectIdIn(ids).stream().collect(Collectors.groupingBy(GradeResponse::subject_id))
+                : null;
+        Map<UUID, List<AbsenceResponse>> absences = expand.contains(SubjectExpansion.ABSENCES)
+                ? this.absenceRepository.findAllBySubjectIdIn(ids).stream().collect(Collectors.groupingBy(AbsenceResponse::subject_id))
+                : null;
+
+        return subjects.stream()
+                .map(subject -> subject.expand(
+                        professors == null ? null : professors.getOrDefault(subject.id(), List.of()),
+                        grades == null ? null : grades.getOrDefault(subject.id(), List.of()),
+                        absences == null ? null : absences.getOrDefault(subject.id(), List.of())
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectSummary;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryProjection;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryResponse;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the per-subject totals of {@link SubjectSummary}. Writers record the change they made as a delta, which
+ * is applied with a single in-place update, so reading the summaries never aggregates the grades or absences tables.
+ * A scheduled rebuild recomputes any row that drifted, for instance after data was changed outside the API.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubjectSummaryService {
+    /**
+     * The order the database sorts uuids in, which {@link UUID#compareTo} does not follow. Writers that record
+     * several subjects do so in this order, the one the rebuild locks the rows in, so they cannot deadlock.
+     */
+    public static final Comparator<UUID> LOCK_ORDER = Comparator.comparing(UUID::toString);
+
+    static final int REPAIR_CHUNK_SIZE = 100;
+
+    private final SubjectSummaryRepository subjectSummaryRepository;
+
+    public CursorPage<SubjectSummaryResponse> fetch(UUID cursor, Integer size, @NotNull User user) {
+        Pageable limit = Pagination.limit(size);
+        Slice<SubjectSummaryProjection> summaries = cursor == null
+                ? this.subjectSummaryRepository.findPageByUserId(user.getId(), limit)
+                : this.subjectSummaryRepository.findPageByUserIdAfter(user.getId(), cursor, limit);
+
+        return CursorPage.of(summaries.getContent().stream().map(SubjectSummaryProjection::toResponse).toList(), summaries.hasNext(), SubjectSummaryResponse::subject_id);
+    }
+
+    public String fetchETag(@NotNull User user) {
+        return ETags.of(this.subjectSummaryRepository.getVersionStampByUserId(user.getId()), this.subjectSummaryRepository.getRevisionByUserId(user.getId()));
+    }
+
+    public void create(@NotNull Subject subject) {
+        this.subjectSummaryRepository.save(new SubjectSummary(subject));
+    }
+
+    public void recordGrades(UUID subjectId, long count, double sum) {
+        this.record(subjectId, count, sum, 0);
+    }
+
+    public void recordAbsences(UUID subjectId, long total) {
+        this.record(subjectId, 0, 0, total);
+    }
+
+    /**
+     * Inserts the missing summary rows and recomputes the drifted ones, returning how many rows were repaired.
+     * The drifted subjects are found without locks, then locked and recomputed a small chunk at a time, each chunk
+     * in its own transaction: grade and absence writes to a subject being repaired wait for its chunk to commit
+     * instead of having their increments overwritten, and writes to every other subject are not held up.
+     */
+    @Scheduled(cron = "${api.summaries.rebuild-cron:0 0 4 * * *}")
+    public int rebuild() {
+        int repaired = this.subjectSummaryRepository.insertAllMissing();
+        List<UUID> drifted = this.subjectSummaryRepository.findDriftedSubjectIds().stream().map(UUID::fromString).toList();
+
+        for (int start = 0; start < drifted.size(); start += REPAIR_CHUNK_SIZE) {
+            repaired += this.subjectSummaryRepository.lockAndRepair(drifted.subList(start, Math.min(start + REPAIR_CHUNK_SIZE, drifted.size())));
+        }
+
+        return repaired;
+    }
+
+    private void record(UUID subjectId, long gradeCount, double gradeSum, long absenceTotal) {
+        if (gradeCount == 0 && gradeSum == 0 && absenceTotal == 0) {
+            return;
+        }
+
+        if (this.subjectSummaryRepository.increment(subjectId, gradeCount, gradeSum, absenceTotal, Instant.now()) == 0
+                && this.subjectSummaryRepository.insertMissing(subjectId) == 0) {
+            // Another transaction created the row since, from a snapshot without this change
+            this.subjectSummaryRepository.increment(subjectId, gradeCount, gradeSum, absenceTotal, Instant.now());
+        }
+    }
+}
@@ -43,4 +43,4 @@ CREATE TABLE IF NOT EXISTS absences (
     amount     SMALLINT NOT NULL,
     subject_id UUID NOT NULL,
     FOREIGN KEY (subject_id) REFERENCES subjects (id)
-);
\ No newline at end of file
+);
@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS subjects_user_id_id_idx ON subjects (user_id, id);
+
+CREATE INDEX IF NOT EXISTS professors_user_id_id_idx ON professors (user_id, id);
+
+CREATE INDEX IF NOT EXISTS subjects_professors_professor_id_idx ON subjects_professors (professor_id);
+
+CREATE INDEX IF NOT EXISTS grades_subject_id_id_idx ON grades (subject_id, id);
+
+CREATE INDEX IF NOT EXISTS absences_subject_id_id_idx ON absences (subject_id, id);
+
+CREATE INDEX IF NOT EXISTS absences_subject_id_date_idx ON absences (subject_id, date);
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS subject_summaries (
+    subject_id    UUID PRIMARY KEY,
+    grade_count   BIGINT NOT NULL,
+    grade_sum     DOUBLE PRECISION NOT NULL,
+    absence_total BIGINT NOT NULL,
+    updated_at    TIMESTAMP WITH TIME ZONE NOT NULL,
+    FOREIGN KEY (subject_id) REFERENCES subjects (id) ON DELETE CASCADE
+);
+
+INSERT INTO subject_summaries (subject_id, grade_count, grade_sum, absence_total, updated_at)
+SELECT s.id,
+       (SELECT COUNT(*) FROM grades g WHERE g.subject_id = s.id),
+       (SELECT COALESCE(SUM(g.value), 0) FROM grades g WHERE g.subject_id = s.id),
+       (SELECT COALESCE(SUM(a.amount), 0) FROM absences a WHERE a.subject_id = s.id),
+       CURRENT_TIMESTAMP
+FROM subjects s
+WHERE NOT EXISTS (SELECT 1 FROM subject_summaries ss WHERE ss.subject_id = s.id);
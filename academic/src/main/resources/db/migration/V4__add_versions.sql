@@ -0,0 +1,7 @@
+ALTER TABLE subjects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE professors ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE grades ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE absences ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
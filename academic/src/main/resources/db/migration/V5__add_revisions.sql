@@ -0,0 +1,3 @@
+ALTER TABLE users ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE subject_summaries ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
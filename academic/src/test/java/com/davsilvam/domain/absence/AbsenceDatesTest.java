@@ -0,0 +1,36 @@
+package com.davsilvam.domain.absence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Absence Dates Tests")
+class AbsenceDatesTest {
+    @Test
+    @DisplayName("should be able to parse a dd/MM/yyyy date")
+    void parseCase1() {
+        assertEquals(LocalDate.of(2024, 2, 29), AbsenceDates.parse("29/02/2024"));
+        assertEquals(LocalDate.of(2023, 12, 31), AbsenceDates.parse("31/12/2023"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1/2/2024", "29/02/2023", "31/04/2024", "00/01/2024", "10/13/2024", "10-02-2024", "10/02/202a", "2024-02-10", "3143214512412412", "10/02/0000", "10/02/+202", "+1/02/2024", "1/02/20245"})
+    @DisplayName("should not be able to parse an invalid date")
+    void parseCase2(String value) {
+        assertNull(AbsenceDates.parse(value));
+    }
+
+    @Test
+    @DisplayName("should be able to parse what the shared formatter writes")
+    void parseCase3() {
+        LocalDate date = LocalDate.of(2024, 1, 5);
+
+        assertEquals(date, AbsenceDates.parse(date.format(AbsenceDates.FORMATTER)));
+        assertNull(AbsenceDates.parse(null));
+    }
+}
@@ -0,0 +1,27 @@
+package com.davsilvam.domain.absence.dtos;
+
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Absence Response Tests")
+class AbsenceResponseTest {
+    @Test
+    @DisplayName("should write the date in the same dd/MM/yyyy format absences are created with")
+    void serializeCase1() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        AbsenceResponse response = new AbsenceResponse(UUID.randomUUID(), LocalDate.of(2024, 2, 5), 2, UUID.randomUUID());
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(response));
+
+        assertEquals("05/02/2024", json.get("date").asText());
+        assertEquals(response.date(), AbsenceDates.parse(json.get("date").asText()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.davsilvam.infra.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Expiring Cache Tests")
+class ExpiringCacheTest {
+    @Test
+    @DisplayName("should be able to get an entry until it expires")
+    void getCase1() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+
+        cache.put("live", "value", Duration.ofHours(1));
+        cache.put("expired", "value", System.currentTimeMillis() - 1);
+
+        assertEquals("value", cache.get("live"));
+        assertNull(cache.get("expired"));
+        assertNull(cache.get("missing"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("should purge expired entries first once the maximum size is reached")
+    void putCase1() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+
+        for (int i = 0; i < 5; i++) {
+            cache.put("expired" + i, "value", System.currentTimeMillis() - 1);
+            cache.put("live" + i, "value", Duration.ofHours(1));
+        }
+
+        cache.put("new", "value", Duration.ofHours(1));
+
+        assertEquals(6, cache.size());
+        assertEquals("value", cache.get("new"));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("value", cache.get("live" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("should drop entries down to the low-water mark when none has expired")
+    void putCase2() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, "value", Duration.ofHours(1));
+        }
+
+        cache.put("key0", "updated", Duration.ofHours(1));
+
+        assertEquals(10, cache.size());
+
+        cache.put("new", "value", Duration.ofHours(1));
+
+        assertEquals(10, cache.size());
+        assertEquals("value", cache.get("new"));
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("more" + i, "value", Duration.ofHours(1));
+            assertTrue(cache.size() <= 10);
+        }
+    }
+
+    @Test
+    @DisplayName("should be able to invalidate one entry or all of them")
+    void invalidateCase1() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+
+        cache.put("first", "value", Duration.ofHours(1));
+        cache.put("second", "value", Duration.ofHours(1));
+        cache.invalidate("first");
+
+        assertNull(cache.get("first"));
+        assertEquals("value", cache.get("second"));
+
+        cache.invalidateAll();
+
+        assertNull(cache.get("second"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("should not be able to create a cache without room")
+    void constructorCase1() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(0));
+    }
+}
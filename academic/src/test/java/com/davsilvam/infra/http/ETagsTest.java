@@ -0,0 +1,115 @@
+package com.davsilvam.infra.http;
+
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@DisplayName("ETags Tests")
+class ETagsTest {
+    static final String ETAG = ETags.of(UUID.fromString("0190e4f1-5b7a-7c3d-8e2f-1a2b3c4d5e6f"), 3L);
+
+    MockMvc mockMvc;
+
+    TestController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TestController();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("should be able to build the same quoted strong ETag for the same versions")
+    void ofCase1() {
+        UUID id = UUID.randomUUID();
+
+        assertEquals(ETags.of(id, 1L), ETags.of(id, 1L));
+        assertTrue(ETags.of(id, 1L).matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    @DisplayName("should be able to build a different ETag when any version changes")
+    void ofCase2() {
+        UUID id = UUID.randomUUID();
+
+        assertNotEquals(ETags.of(id, 1L), ETags.of(id, 2L));
+        assertNotEquals(ETags.of(id, 1L, null), ETags.of(id, 1L, 0L));
+        assertNotEquals(ETags.of("1", "23"), ETags.of("12", "3"));
+    }
+
+    @Test
+    @DisplayName("should be able to build the body and send the ETag when the request has no If-None-Match")
+    void conditionalCase1() throws Exception {
+        MvcResult result = mockMvc.perform(get("/resource")).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("body", result.getResponse().getContentAsString());
+        assertEquals(List.of(ETAG), result.getResponse().getHeaders(HttpHeaders.ETAG));
+        assertEquals(1, controller.bodies.get());
+    }
+
+    @Test
+    @DisplayName("should be able to answer 304 without building the body when If-None-Match still matches")
+    void conditionalCase2() throws Exception {
+        MvcResult result = mockMvc.perform(get("/resource").header(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + ETAG)).andReturn();
+
+        assertEquals(304, result.getResponse().getStatus());
+        assertEquals("", result.getResponse().getContentAsString());
+        assertEquals(List.of(ETAG), result.getResponse().getHeaders(HttpHeaders.ETAG));
+        assertEquals(0, controller.bodies.get());
+    }
+
+    @Test
+    @DisplayName("should be able to build the body again when If-None-Match holds an outdated ETag")
+    void conditionalCase3() throws Exception {
+        MvcResult result = mockMvc.perform(get("/resource").header(HttpHeaders.IF_NONE_MATCH, ETags.of("outdated"))).andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("body", result.getResponse().getContentAsString());
+        assertEquals(1, controller.bodies.get());
+    }
+
+    @Test
+    @DisplayName("should be able to accept a write without If-Match, with \"*\" or with the current ETag among others")
+    void requireMatchCase1() {
+        assertDoesNotThrow(() -> ETags.requireMatch(null, ETAG));
+        assertDoesNotThrow(() -> ETags.requireMatch("*", ETAG));
+        assertDoesNotThrow(() -> ETags.requireMatch("\"stale\", " + ETAG, ETAG));
+    }
+
+    @Test
+    @DisplayName("should be not able to accept a write with an outdated or weak ETag")
+    void requireMatchCase2() {
+        assertThrows(StaleVersionException.class, () -> ETags.requireMatch(ETags.of("outdated"), ETAG));
+        assertThrows(StaleVersionException.class, () -> ETags.requireMatch("W/" + ETAG, ETAG));
+    }
+
+    @RestController
+    static class TestController {
+        final AtomicInteger bodies = new AtomicInteger();
+
+        @GetMapping("/resource")
+        ResponseEntity<String> get(WebRequest request) {
+            return ETags.conditional(request, ETAG, () -> {
+                this.bodies.incrementAndGet();
+                return "body";
+            });
+        }
+    }
+}
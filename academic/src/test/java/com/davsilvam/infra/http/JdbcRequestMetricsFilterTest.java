@@ -0,0 +1,88 @@
+package com.davsilvam.infra.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("JDBC Request Metrics Tests")
+class JdbcRequestMetricsFilterTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        Map<String, String> credentials = Map.of("name", "Test User", "email", email, "password", "password");
+
+        mockMvc.perform(post("/auth/register").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(credentials)));
+        String login = mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(credentials)))
+                .andReturn().getResponse().getContentAsString();
+        token = objectMapper.readTree(login).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("should record the JDBC statements and time of each request under its endpoint")
+    void doFilterCase1() throws Exception {
+        String created = mockMvc.perform(post("/subjects").header(HttpHeaders.AUTHORIZATION, "Bearer " + token).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Subject\", \"description\": \"Description\", \"professors_ids\": []}"))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(created).get("id").asText();
+
+        mockMvc.perform(get("/subjects/" + id + "/stats").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        DistributionSummary statements = meterRegistry.get(JdbcRequestMetricsFilter.STATEMENTS)
+                .tags("method", "GET", "uri", "/subjects/{id}/stats", "status", "200").summary();
+
+        assertEquals(1, statements.count());
+        assertTrue(statements.totalAmount() > 0);
+        assertEquals(1, meterRegistry.get(JdbcRequestMetricsFilter.TIME).tags("uri", "/subjects/{id}/stats").timer().count());
+        assertTrue(meterRegistry.get(JdbcRequestMetricsFilter.STATEMENTS).tags("method", "POST", "uri", "/subjects").summary().totalAmount() > 0);
+    }
+
+    @Test
+    @DisplayName("should serve request, repository and JDBC histograms to Prometheus without a token")
+    void prometheusCase1() throws Exception {
+        mockMvc.perform(get("/subjects").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/actuator/prometheus")).andReturn().getResponse();
+        String scrape = response.getContentAsString();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("http_server_requests_jdbc_statements_bucket{"));
+        assertTrue(scrape.contains("spring_security_filterchains_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/subjects\""));
+    }
+}
@@ -0,0 +1,49 @@
+package com.davsilvam.infra.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisplayName("Connection Pool Tests")
+class ConnectionPoolTest {
+    @Autowired
+    HikariDataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("should configure a fixed-size pool with leak detection and prepared statement caching")
+    void configurationCase1() {
+        assertEquals("academic", dataSource.getPoolName());
+        assertEquals(10, dataSource.getMaximumPoolSize());
+        assertEquals(10, dataSource.getMinimumIdle());
+        assertEquals(5000, dataSource.getConnectionTimeout());
+        assertEquals(30000, dataSource.getLeakDetectionThreshold());
+        assertEquals("1", dataSource.getDataSourceProperties().getProperty("prepareThreshold"));
+    }
+
+    @Test
+    @DisplayName("should publish the active, idle and pending connections and the acquire time of the pool")
+    void metricsCase1() throws Exception {
+        long acquired = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "academic").timer().count();
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(acquired + 1, meterRegistry.get("hikaricp.connections.acquire").tag("pool", "academic").timer().count());
+        }
+
+        assertNotNull(meterRegistry.get("hikaricp.connections.active").tag("pool", "academic").gauge());
+        assertNotNull(meterRegistry.get("hikaricp.connections.idle").tag("pool", "academic").gauge());
+        assertNotNull(meterRegistry.get("hikaricp.connections.pending").tag("pool", "academic").gauge());
+    }
+}
@@ -0,0 +1,51 @@
+package com.davsilvam.infra.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UUIDv7 Generator Tests")
+class UuidV7GeneratorTest {
+    @Test
+    @DisplayName("should be able to generate a version 7 uuid with the current timestamp")
+    void nextCase1() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = id.getMostSignificantBits() >>> 16;
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    @DisplayName("should be able to generate increasing uuids within the same millisecond")
+    void nextCase2() {
+        UUID previous = UuidV7Generator.next();
+
+        for (int index = 0; index < 100_000; index++) {
+            UUID next = UuidV7Generator.next();
+
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("should be able to generate unique uuids from concurrent threads")
+    void nextCase3() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(index -> ids.add(UuidV7Generator.next()));
+
+        assertEquals(200_000, ids.size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.domain.user.exceptions.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+    @Test
+    @DisplayName("should be able to hash and verify passwords on the hashing pool")
+    void encodeCase1() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        try {
+            String hash = encoder.encode("password");
+
+            assertTrue(encoder.matches("password", hash));
+            assertFalse(encoder.matches("wrong", hash));
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("should not hash on the calling thread")
+    void encodeCase2() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        }, 1, 1);
+
+        try {
+            assertEquals("password-hashing-1", encoder.encode("password"));
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a hash right away once every thread is busy and the queue is full")
+    void encodeCase3() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                running.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 2, 1);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                Thread.ofVirtual().start(() -> encoder.encode("password"));
+            }
+
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            while (encoder.getExecutor().getQueue().isEmpty()) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("password"));
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("should rethrow the errors of the delegate to the caller")
+    void matchesCase1() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        try {
+            assertThrows(IllegalArgumentException.class, () -> encoder.matches(null, "hash"));
+        } finally {
+            encoder.destroy();
+        }
+    }
+}
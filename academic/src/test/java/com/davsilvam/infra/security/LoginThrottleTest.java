@@ -0,0 +1,67 @@
+package com.davsilvam.infra.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "api.security.login-throttle.per-email.capacity=2",
+        "api.security.login-throttle.per-client.capacity=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Login Throttle Tests")
+class LoginThrottleTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("should answer 429 with Retry-After once an email or a client runs out of attempts")
+    void loginCase1() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", "Test User", "email", email, "password", "password"))));
+
+        assertEquals(404, login(email.toUpperCase(), "wrong", "10.0.0.1").getStatus());
+        assertEquals(200, login(email, "password", "10.0.0.2").getStatus());
+
+        MockHttpServletResponse throttled = login(email, "password", "10.0.0.3");
+
+        assertEquals(429, throttled.getStatus());
+        long retryAfter = Long.parseLong(throttled.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter > 0 && retryAfter <= 12);
+
+        for (int i = 0; i < 4; i++) {
+            login(UUID.randomUUID() + "@example.com", "password", "10.0.0.4");
+        }
+
+        assertEquals(429, login(UUID.randomUUID() + "@example.com", "password", "10.0.0.4").getStatus());
+    }
+
+    MockHttpServletResponse login(String email, String password, String client) throws Exception {
+        return mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .with(request -> {
+                            request.setRemoteAddr(client);
+                            return request;
+                        })
+                        .content(objectMapper.writeValueAsString(Map.of("email", email, "password", password))))
+                .andReturn().getResponse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.domain.user.User;
+import com.davsilvam.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Principal Cache Tests")
+class PrincipalCacheTest {
+    UserRepository userRepository;
+
+    User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+    }
+
+    @Test
+    @DisplayName("should be able to load a user once and then serve it from memory")
+    void loadCase1() {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
+
+        UserPrincipal first = principalCache.load(mockUser.getEmail());
+        UserPrincipal second = principalCache.load(mockUser.getEmail());
+
+        assertEquals(new UserPrincipal(mockUser.getId(), "Test User", "test@example.com", List.of()), first);
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("should keep neither the password hash nor the entity")
+    void loadCase2() {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
+
+        UserPrincipal principal = principalCache.load(mockUser.getEmail());
+        User first = principal.toUser();
+        User second = principal.toUser();
+
+        assertNotSame(first, second);
+        assertNotSame(mockUser, first);
+        assertEquals(mockUser.getId(), first.getId());
+        assertEquals(mockUser.getEmail(), first.getEmail());
+        assertNull(first.getPassword());
+        assertNull(first.getSubjects());
+    }
+
+    @Test
+    @DisplayName("should load a user again once its entry expires")
+    void loadCase3() {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, Duration.ZERO, 100);
+
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
+
+        principalCache.load(mockUser.getEmail());
+        principalCache.load(mockUser.getEmail());
+
+        verify(userRepository, times(2)).findByEmail(mockUser.getEmail());
+    }
+
+    @Test
+    @DisplayName("should not cache unknown emails")
+    void loadCase4() {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+
+        assertNull(principalCache.load(mockUser.getEmail()));
+
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
+
+        assertEquals(mockUser.getId(), principalCache.load(mockUser.getEmail()).id());
+        assertNull(principalCache.load(null));
+        assertNull(principalCache.load(" "));
+        verify(userRepository, times(2)).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("should load a user again once its entry is invalidated")
+    void invalidateCase1() {
+        PrincipalCache principalCache = new PrincipalCache(userRepository, Duration.ofMinutes(5), 100);
+        User renamedUser = new User(mockUser.getId(), "Renamed User", mockUser.getEmail(), "password");
+
+        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser, renamedUser);
+
+        assertEquals("Test User", principalCache.load(mockUser.getEmail()).name());
+        assertEquals("Test User", principalCache.load(mockUser.getEmail()).name());
+
+        principalCache.invalidate(mockUser.getEmail());
+        principalCache.invalidate(null);
+
+        assertEquals("Renamed User", principalCache.load(mockUser.getEmail()).name());
+        verify(userRepository, times(2)).findByEmail(mockUser.getEmail());
+    }
+}
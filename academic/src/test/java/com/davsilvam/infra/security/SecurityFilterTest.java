@@ -0,0 +1,58 @@
+package com.davsilvam.infra.security;
+
+import com.davsilvam.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Security Filter Tests")
+class SecurityFilterTest {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @SpyBean
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("should not look the user up again on a repeated authenticated request")
+    void filterCase1() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("name", "Test User", "email", email, "password", "password"))));
+        String body = mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", email, "password", "password"))))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("token").asText();
+
+        assertEquals(200, mockMvc.perform(get("/subjects").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn().getResponse().getStatus());
+        clearInvocations(userRepository);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, mockMvc.perform(get("/subjects").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andReturn().getResponse().getStatus());
+        }
+
+        verify(userRepository, never()).findByEmail(email);
+    }
+}
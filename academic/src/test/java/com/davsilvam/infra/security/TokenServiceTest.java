@@ -0,0 +1,127 @@
+package com.davsilvam.infra.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.davsilvam.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Token Service Tests")
+class TokenServiceTest {
+    TokenService tokenService;
+
+    User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret", 100);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+    }
+
+    @Test
+    @DisplayName("should be able to validate a generated token")
+    void validateCase1() {
+        String token = tokenService.generateToken(mockUser);
+
+        assertEquals(mockUser.getEmail(), tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("should be able to validate the same token repeatedly")
+    void validateCase2() {
+        String token = tokenService.generateToken(mockUser);
+
+        assertEquals(mockUser.getEmail(), tokenService.validateToken(token));
+        assertEquals(mockUser.getEmail(), tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("should be not able to validate a tampered token")
+    void validateCase3() {
+        String token = tokenService.generateToken(mockUser);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertEquals("", tokenService.validateToken(tampered));
+    }
+
+    @Test
+    @DisplayName("should be not able to validate a token signed with another secret")
+    void validateCase4() {
+        String token = new TokenService("another-secret", 100).generateToken(mockUser);
+
+        assertEquals("", tokenService.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("should not verify a token again while it is cached")
+    void validateCase5() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        Algorithm algorithm = Algorithm.HMAC256("test-secret");
+        JWTVerifier verifier = spy(((JWTVerifier.BaseVerification) JWT.require(algorithm).withIssuer("academic")).build(clock));
+        TokenService cachingService = new TokenService(algorithm, verifier, 100, clock);
+        String token = cachingService.generateToken(mockUser);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(mockUser.getEmail(), cachingService.validateToken(token));
+        }
+
+        verify(verifier, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("should not be able to validate a cached token once it expires")
+    void validateCase6() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        Algorithm algorithm = Algorithm.HMAC256("test-secret");
+        JWTVerifier verifier = spy(((JWTVerifier.BaseVerification) JWT.require(algorithm).withIssuer("academic")).build(clock));
+        TokenService cachingService = new TokenService(algorithm, verifier, 100, clock);
+        String token = JWT.create().withIssuer("academic").withSubject(mockUser.getEmail())
+                .withExpiresAt(clock.instant.plusSeconds(60)).sign(algorithm);
+
+        assertEquals(mockUser.getEmail(), cachingService.validateToken(token));
+
+        clock.instant = clock.instant.plusSeconds(59);
+
+        assertEquals(mockUser.getEmail(), cachingService.validateToken(token));
+        verify(verifier, times(1)).verify(token);
+
+        clock.instant = clock.instant.plusSeconds(1);
+
+        assertEquals("", cachingService.validateToken(token));
+        verify(verifier, times(2)).verify(token);
+    }
+
+    static class MutableClock extends Clock {
+        Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
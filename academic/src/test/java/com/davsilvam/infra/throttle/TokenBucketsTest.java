@@ -0,0 +1,190 @@
+package com.davsilvam.infra.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Token Buckets Tests")
+class TokenBucketsTest {
+    @Test
+    @DisplayName("should be able to take a burst of capacity tokens and then tell how long until the next one")
+    void tryAcquireCase1() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(5, Duration.ofSeconds(12), 100, clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, buckets.tryAcquire("test@example.com"));
+        }
+
+        assertEquals(12000, buckets.tryAcquire("test@example.com"));
+
+        clock.instant = clock.instant.plusSeconds(5);
+
+        assertEquals(7000, buckets.tryAcquire("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("should be able to regain one token per refill interval, up to capacity")
+    void tryAcquireCase2() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(3, Duration.ofSeconds(10), 100, clock);
+
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("client");
+        }
+
+        clock.instant = clock.instant.plusSeconds(10);
+
+        assertEquals(0, buckets.tryAcquire("client"));
+        assertTrue(buckets.tryAcquire("client") > 0);
+
+        clock.instant = clock.instant.plusSeconds(3600);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire("client"));
+        }
+
+        assertTrue(buckets.tryAcquire("client") > 0);
+    }
+
+    @Test
+    @DisplayName("should keep the bucket of each key apart")
+    void tryAcquireCase3() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(1, Duration.ofMinutes(1), 100, clock);
+
+        assertEquals(0, buckets.tryAcquire("first"));
+        assertTrue(buckets.tryAcquire("first") > 0);
+        assertEquals(0, buckets.tryAcquire("second"));
+    }
+
+    @Test
+    @DisplayName("should hand out exactly capacity tokens to concurrent callers")
+    void tryAcquireCase4() throws InterruptedException {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(100, Duration.ofHours(1), 100, clock);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    return;
+                }
+
+                for (int j = 0; j < 50; j++) {
+                    if (buckets.tryAcquire("client") == 0) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(100, acquired.get());
+    }
+
+    @Test
+    @DisplayName("should drop full buckets first once the maximum number of keys is reached")
+    void tryAcquireCase5() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(2, Duration.ofSeconds(10), 10, clock);
+
+        buckets.tryAcquire("throttled");
+        buckets.tryAcquire("throttled");
+
+        for (int i = 0; i < 9; i++) {
+            buckets.tryAcquire("idle" + i);
+        }
+
+        clock.instant = clock.instant.plusSeconds(15);
+        buckets.tryAcquire("new");
+
+        assertEquals(2, buckets.size());
+        assertEquals(0, buckets.tryAcquire("throttled"));
+        assertTrue(buckets.tryAcquire("throttled") > 0);
+    }
+
+    @Test
+    @DisplayName("should stay bounded when no bucket is full, sharing one overflow bucket between new keys")
+    void tryAcquireCase6() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(2, Duration.ofMinutes(1), 100, clock);
+        int acquired = 0;
+
+        for (int i = 0; i < 1000; i++) {
+            if (buckets.tryAcquire("client" + i) == 0) {
+                acquired++;
+            }
+
+            assertTrue(buckets.size() <= 100);
+        }
+
+        assertEquals(102, acquired);
+    }
+
+    @Test
+    @DisplayName("should keep a throttled key throttled when the map is flooded with new keys")
+    void tryAcquireCase7() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-10T08:00:00Z"));
+        TokenBuckets buckets = new TokenBuckets(2, Duration.ofMinutes(1), 10, clock);
+
+        buckets.tryAcquire("target@example.com");
+        buckets.tryAcquire("target@example.com");
+
+        for (int i = 0; i < 1000; i++) {
+            buckets.tryAcquire(i + "@example.com");
+            clock.instant = clock.instant.plusMillis(10);
+        }
+
+        assertTrue(buckets.tryAcquire("target@example.com") > 0);
+        assertEquals(10, buckets.size());
+
+        clock.instant = clock.instant.plusSeconds(120);
+
+        assertEquals(0, buckets.tryAcquire("new@example.com"));
+        assertTrue(buckets.size() <= 10);
+    }
+
+    static class MutableClock extends Clock {
+        Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.davsilvam.infra.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cached Today Tests")
+class CachedTodayTest {
+    static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    @Test
+    @DisplayName("should be able to keep the same date until midnight")
+    void getCase1() {
+        MutableClock clock = new MutableClock(LocalDate.of(2024, 2, 10).atTime(8, 0).atZone(ZONE).toInstant());
+        CachedToday today = new CachedToday(clock);
+
+        clock.instant = LocalDate.of(2024, 2, 10).atTime(23, 59, 59).atZone(ZONE).toInstant();
+
+        assertEquals(LocalDate.of(2024, 2, 10), today.get());
+    }
+
+    @Test
+    @DisplayName("should be able to roll over to the next date at midnight in the clock zone")
+    void getCase2() {
+        MutableClock clock = new MutableClock(LocalDate.of(2024, 2, 10).atTime(23, 0).atZone(ZONE).toInstant());
+        CachedToday today = new CachedToday(clock);
+
+        assertEquals(LocalDate.of(2024, 2, 10), today.get());
+
+        clock.instant = LocalDate.of(2024, 2, 11).atStartOfDay(ZONE).toInstant();
+
+        assertEquals(LocalDate.of(2024, 2, 11), today.get());
+    }
+
+    static class MutableClock extends Clock {
+        Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.GradeBatchResponse;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectSummary;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.OwnershipService;
+import com.davsilvam.services.SubjectSummaryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({GradeService.class, OwnershipService.class, SubjectSummaryService.class})
+@ActiveProfiles("test")
+@DisplayName("Grade Batch Statement Count Tests")
+class GradeBatchStatementCountTest {
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    GradeService gradeService;
+
+    Statistics statistics;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = entityManager.persist(new User("Test User", "test@example.com", "password"));
+    }
+
+    @Test
+    @DisplayName("should insert a batch of grades with one statement per JDBC batch")
+    void createBatchCase1() {
+        Subject first = entityManager.persist(new Subject("Subject 1", "Description 1", user));
+        Subject second = entityManager.persist(new Subject("Subject 2", "Description 2", user));
+        entityManager.persist(new SubjectSummary(first));
+        entityManager.persist(new SubjectSummary(second));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CreateGradeRequest> requests = new ArrayList<>();
+        for (int index = 0; index < 500; index++) {
+            requests.add(new CreateGradeRequest("Grade " + index, 10.0f, (index % 2 == 0 ? first : second).getId()));
+        }
+
+        GradeBatchResponse result = gradeService.createBatch(requests, user);
+        entityManager.flush();
+
+        // one ownership query for both subjects, then a single insert statement reused by every JDBC batch
+        // (without hibernate.jdbc.batch_size each grade prepares its own insert, 501 statements in total),
+        // then one summary update per subject
+        assertEquals(500, result.created());
+        assertEquals(500, statistics.getEntityInsertCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(500, gradeRepository.count());
+    }
+}
@@ -0,0 +1,199 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectExpansion;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.davsilvam.domain.subject.dtos.SubjectStatsResponse;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.dtos.DashboardResponse;
+import com.davsilvam.services.AbsenceService;
+import com.davsilvam.services.DashboardService;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.OwnershipService;
+import com.davsilvam.services.ProfessorService;
+import com.davsilvam.services.SubjectService;
+import com.davsilvam.services.SubjectSummaryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SubjectService.class, ProfessorService.class, GradeService.class, AbsenceService.class, OwnershipService.class, SubjectSummaryService.class, DashboardService.class})
+@ActiveProfiles("test")
+@DisplayName("Listing Statement Count Tests")
+class ListingStatementCountTest {
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    SubjectRepository subjectRepository;
+
+    @Autowired
+    SubjectService subjectService;
+
+    @Autowired
+    ProfessorService professorService;
+
+    @Autowired
+    GradeService gradeService;
+
+    @Autowired
+    DashboardService dashboardService;
+
+    Statistics statistics;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = entityManager.persist(new User("Test User", "test@example.com", "password"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should list subjects with every collection expanded in a constant number of statements")
+    void fetchSubjectsCase1(int subjects) {
+        seed(subjects);
+
+        CursorPage<SubjectResponse> result = subjectService.fetch(null, Pagination.MAX_SIZE, EnumSet.allOf(SubjectExpansion.class), user);
+
+        assertEquals(subjects, result.items().size());
+        assertTrue(result.items().stream().allMatch(subject -> subject.professors().size() == 2 && subject.grades().size() == 2 && subject.absences().size() == 1));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should list subjects without expansions in a single statement")
+    void fetchSubjectsCase2(int subjects) {
+        seed(subjects);
+
+        CursorPage<SubjectResponse> result = subjectService.fetch(null, Pagination.MAX_SIZE, Set.of(), user);
+
+        assertEquals(subjects, result.items().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should list professors and grades in a constant number of statements")
+    void fetchProfessorsAndGradesCase1(int subjects) {
+        List<Subject> seeded = seed(subjects);
+
+        assertEquals(subjects * 2, professorService.fetch(null, Pagination.MAX_SIZE, user).items().size());
+        assertEquals(2, gradeService.fetch(seeded.get(0).getId(), null, null, user).items().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should initialize the lazy collections of a page of subject entities in one statement per collection")
+    void loadSubjectEntitiesCase1(int subjects) {
+        seed(subjects);
+
+        List<Subject> result = subjectRepository.findAll();
+        result.forEach(subject -> {
+            subject.getProfessors().forEach(professor -> professor.getSubjects().size());
+            subject.getGrades().size();
+            subject.getAbsences().size();
+        });
+
+        // subjects, then one batch each for professors, professors' subjects, grades and absences (the owner is lazy)
+        assertEquals(subjects, result.size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should compute the stats of a subject with aggregate statements")
+    void subjectStatsCase1(int grades) {
+        Subject subject = seed(1).get(0);
+
+        for (int index = 0; index < grades; index++) {
+            entityManager.persist(new Grade("Extra " + index, 6.0f, entityManager.find(Subject.class, subject.getId())));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        SubjectStatsResponse result = subjectService.stats(subject.getId(), user);
+
+        assertEquals(grades + 2, result.grade_count());
+        assertEquals((10.0 + 8.0 + 6.0 * grades) / (grades + 2), result.grade_average(), 0.0001);
+        assertEquals(6.0f, result.grade_min());
+        assertEquals(10.0f, result.grade_max());
+        assertEquals(2, result.absence_total());
+        // the ownership check loads the subject alone, never its grades or absences
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    @DisplayName("should load the dashboard in a constant number of statements")
+    void dashboardCase1(int subjects) {
+        seed(subjects);
+
+        DashboardResponse result = dashboardService.get(user);
+
+        // subjects with their summaries, the professors of those subjects, then the user's professors
+        assertEquals(subjects, result.subjects().size());
+        assertEquals(subjects * 2, result.professors().size());
+        assertTrue(result.subjects().stream().allMatch(subject -> subject.professors().size() == 2));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private List<Subject> seed(int amount) {
+        List<Subject> subjects = new ArrayList<>();
+
+        for (int index = 0; index < amount; index++) {
+            Professor first = entityManager.persist(new Professor("Professor " + index, "first" + index + "@example.com", user));
+            Professor second = entityManager.persist(new Professor("Professor " + index, "second" + index + "@example.com", user));
+
+            Subject subject = new Subject("Subject " + index, "Description " + index, user);
+            subject.setProfessors(new ArrayList<>(List.of(first, second)));
+            subjects.add(entityManager.persist(subject));
+
+            entityManager.persist(new Grade("Grade 1", 10.0f, subject));
+            entityManager.persist(new Grade("Grade 2", 8.0f, subject));
+            entityManager.persist(new Absence(LocalDate.now(), 2, subject));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        return subjects;
+    }
+}
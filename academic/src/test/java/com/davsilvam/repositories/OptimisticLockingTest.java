@@ -0,0 +1,107 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.UpdateGradeRequest;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectRequest;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.OwnershipService;
+import com.davsilvam.services.SubjectService;
+import com.davsilvam.services.SubjectSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without the test transaction, so each write commits like it would in a request.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SubjectService.class, GradeService.class, OwnershipService.class, SubjectSummaryService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("Optimistic Locking Tests")
+class OptimisticLockingTest {
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    SubjectService subjectService;
+
+    @Autowired
+    GradeService gradeService;
+
+    User user;
+
+    Subject subject;
+
+    Grade grade;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Test User", UUID.randomUUID() + "@example.com", "password"));
+        subject = subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of()), user);
+        grade = gradeService.create(new CreateGradeRequest("Grade", 5.0f, subject.getId()), user);
+    }
+
+    @Test
+    @DisplayName("should reject the second of two interleaved updates instead of losing the first")
+    void updateCase1() {
+        TransactionTemplate first = new TransactionTemplate(transactionManager);
+        TransactionTemplate second = new TransactionTemplate(transactionManager);
+        second.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> first.executeWithoutResult(status -> {
+            Grade stale = gradeRepository.findById(grade.getId()).orElseThrow();
+
+            second.executeWithoutResult(inner -> gradeService.update(grade.getId(), new UpdateGradeRequest(Optional.empty(), Optional.of(9.0f)), null, user));
+
+            stale.setValue(1.0f);
+        }));
+
+        Grade stored = gradeRepository.findById(grade.getId()).orElseThrow();
+
+        assertEquals(9.0f, stored.getValue());
+        assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    @DisplayName("should accept a chain of updates that each send the ETag returned by the previous one")
+    void updateCase2() {
+        Subject renamed = subjectService.update(subject.getId(), new UpdateSubjectRequest(Optional.of("Renamed"), Optional.empty()), ETags.of(subject.getId(), 0L), user);
+        String etag = ETags.of(renamed.getId(), renamed.getVersion());
+
+        subjectService.update(subject.getId(), new UpdateSubjectRequest(Optional.empty(), Optional.of("Described")), etag, user);
+
+        assertEquals(1, renamed.getVersion());
+        assertThrows(StaleVersionException.class, () -> subjectService.update(subject.getId(), new UpdateSubjectRequest(Optional.of("Lost"), Optional.empty()), etag, user));
+    }
+}
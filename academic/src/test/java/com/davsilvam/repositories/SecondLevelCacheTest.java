@@ -0,0 +1,138 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectProfessorsRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectRequest;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.services.AbsenceService;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.OwnershipService;
+import com.davsilvam.services.SubjectService;
+import com.davsilvam.services.SubjectSummaryService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without the test transaction, because the cache is only written once a transaction commits.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SubjectService.class, GradeService.class, AbsenceService.class, OwnershipService.class, SubjectSummaryService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@DisplayName("Second-Level Cache Tests")
+class SecondLevelCacheTest {
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ProfessorRepository professorRepository;
+
+    @Autowired
+    SubjectService subjectService;
+
+    @Autowired
+    OwnershipService ownershipService;
+
+    Statistics statistics;
+
+    User user;
+
+    Professor first;
+
+    Professor second;
+
+    Subject subject;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        user = userRepository.save(new User("Test User", UUID.randomUUID() + "@example.com", "password"));
+        first = professorRepository.save(new Professor("First", UUID.randomUUID() + "@example.com", user));
+        second = professorRepository.save(new Professor("Second", UUID.randomUUID() + "@example.com", user));
+        subject = subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of(first.getId())), user);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("should answer a repeated ownership check from the cache")
+    void requireSubjectCase1() {
+        ownershipService.requireSubject(subject.getId(), user);
+        long statements = statistics.getPrepareStatementCount();
+
+        ownershipService.requireSubject(subject.getId(), user);
+
+        assertEquals(1, statements);
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Subject.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("should read the updated subject after an update")
+    void updateCase1() {
+        ownershipService.requireSubject(subject.getId(), user);
+
+        subjectService.update(subject.getId(), new UpdateSubjectRequest(Optional.of("Renamed"), Optional.empty()), null, user);
+
+        assertEquals("Renamed", ownershipService.requireSubject(subject.getId(), user).getName());
+    }
+
+    @Test
+    @DisplayName("should read the new professors of a subject after they are replaced")
+    void updateProfessorsCase1() {
+        assertEquals(List.of(first.getId()), this.professorsIds());
+
+        subjectService.updateProfessors(subject.getId(), new UpdateSubjectProfessorsRequest(List.of(second.getId())), null, user);
+
+        assertEquals(List.of(second.getId()), this.professorsIds());
+    }
+
+    @Test
+    @DisplayName("should stop serving a subject from the cache once it is deleted")
+    void deleteCase1() {
+        ownershipService.requireSubject(subject.getId(), user);
+        assertTrue(entityManagerFactory.getCache().contains(Subject.class, subject.getId()));
+
+        subjectService.delete(subject.getId(), user);
+
+        assertThrows(SubjectNotFoundException.class, () -> ownershipService.requireSubject(subject.getId(), user));
+    }
+
+    private List<UUID> professorsIds() {
+        return transactionTemplate.execute(status -> ownershipService.requireSubject(subject.getId(), user)
+                .getProfessors().stream().map(Professor::getId).toList());
+    }
+}
@@ -0,0 +1,207 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.dtos.CreateAbsenceRequest;
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.UpdateGradeRequest;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectSummary;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryResponse;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.services.AbsenceService;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.OwnershipService;
+import com.davsilvam.services.SubjectService;
+import com.davsilvam.services.SubjectSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SubjectService.class, GradeService.class, AbsenceService.class, OwnershipService.class, SubjectSummaryService.class})
+@ActiveProfiles("test")
+@DisplayName("Subject Summary Consistency Tests")
+class SubjectSummaryConsistencyTest {
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    @Autowired
+    SubjectService subjectService;
+
+    @Autowired
+    GradeService gradeService;
+
+    @Autowired
+    AbsenceService absenceService;
+
+    @Autowired
+    SubjectSummaryService subjectSummaryService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Test User", "test@example.com", "password"));
+    }
+
+    @Test
+    @DisplayName("should keep the summary of a subject in sync with its grades and absences")
+    void recordCase1() {
+        Subject subject = subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of()), user);
+
+        Grade first = gradeService.create(new CreateGradeRequest("Grade 1", 10.0f, subject.getId()), user);
+        Grade second = gradeService.create(new CreateGradeRequest("Grade 2", 4.0f, subject.getId()), user);
+        gradeService.create(new CreateGradeRequest("Grade 3", 7.0f, subject.getId()), user);
+        gradeService.update(second.getId(), new UpdateGradeRequest(Optional.empty(), Optional.of(6.0f)), null, user);
+        gradeService.delete(first.getId(), user);
+
+        Absence absence = absenceService.create(new CreateAbsenceRequest("01/01/2024", 2, subject.getId()), user);
+        absenceService.create(new CreateAbsenceRequest("02/01/2024", 3, subject.getId()), user);
+        absenceService.delete(absence.getId(), user);
+
+        SubjectSummaryResponse summary = this.summaries().get(0);
+
+        assertEquals(2, summary.grade_count());
+        assertEquals(6.5, summary.grade_average(), 0.0001);
+        assertEquals(3, summary.absence_total());
+        assertEquals(0, subjectSummaryService.rebuild());
+    }
+
+    @Test
+    @DisplayName("should recompute a missing summary on the next write")
+    void recordCase2() {
+        Subject subject = entityManager.persist(new Subject("Subject", "Description", user));
+        entityManager.persist(new Grade("Grade 1", 9.0f, subject));
+        entityManager.persist(new Absence(LocalDate.now(), 4, subject));
+        entityManager.flush();
+
+        gradeService.create(new CreateGradeRequest("Grade 2", 5.0f, subject.getId()), user);
+
+        SubjectSummaryResponse summary = this.summaries().get(0);
+
+        assertEquals(2, summary.grade_count());
+        assertEquals(7.0, summary.grade_average(), 0.0001);
+        assertEquals(4, summary.absence_total());
+    }
+
+    @Test
+    @DisplayName("should repair summaries that are missing or drifted")
+    void rebuildCase1() {
+        Subject missing = entityManager.persist(new Subject("Missing", "Description", user));
+        Subject drifted = entityManager.persist(new Subject("Drifted", "Description", user));
+        Subject correct = entityManager.persist(new Subject("Correct", "Description", user));
+        entityManager.persist(new SubjectSummary(drifted));
+        entityManager.persist(new SubjectSummary(correct));
+        entityManager.persist(new Grade("Grade", 8.0f, missing));
+        entityManager.persist(new Grade("Grade", 6.0f, drifted));
+        entityManager.persist(new Absence(LocalDate.now(), 1, drifted));
+        entityManager.flush();
+
+        assertEquals(2, subjectSummaryService.rebuild());
+        entityManager.clear();
+
+        List<SubjectSummaryResponse> summaries = this.summaries();
+
+        assertTrue(summaries.stream().anyMatch(summary -> summary.name().equals("Missing") && summary.grade_count() == 1 && summary.grade_average() == 8.0));
+        assertTrue(summaries.stream().anyMatch(summary -> summary.name().equals("Drifted") && summary.grade_count() == 1 && summary.absence_total() == 1));
+        assertTrue(summaries.stream().anyMatch(summary -> summary.name().equals("Correct") && summary.grade_count() == 0 && summary.grade_average() == null));
+        assertEquals(3, subjectSummaryRepository.count());
+        assertEquals(0, subjectSummaryService.rebuild());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("should not overwrite a grade write that commits while the rebuild repairs its drifted summary")
+    void rebuildCase2() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Subject subject = transaction.execute(status -> subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of()), user));
+        // Only a row that is already drifted in the rebuild's snapshot is updated, and so waits for the writer
+        jdbcTemplate.update("update subject_summaries set grade_count = 5 where subject_id = ?", subject.getId());
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Thread writer = Thread.ofPlatform().start(() -> transaction.executeWithoutResult(status -> {
+                gradeService.create(new CreateGradeRequest("Grade", 8.0f, subject.getId()), user);
+                entityManager.getEntityManager().flush();
+                written.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            written.await();
+
+            Thread rebuild = Thread.ofPlatform().start(subjectSummaryService::rebuild);
+            // Long enough for the rebuild to block on the summary row the writer holds
+            Thread.sleep(500);
+            release.countDown();
+            writer.join();
+            rebuild.join();
+
+            assertEquals(1, subjectSummaryRepository.findById(subject.getId()).orElseThrow().getGradeCount());
+            assertEquals(0, subjectSummaryService.rebuild());
+        } finally {
+            jdbcTemplate.update("delete from grades where subject_id = ?", subject.getId());
+            jdbcTemplate.update("delete from subjects where id = ?", subject.getId());
+            jdbcTemplate.update("delete from users where id = ?", user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("should delete the summary together with its subject")
+    void deleteCase1() {
+        Subject subject = subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of()), user);
+        entityManager.flush();
+        entityManager.clear();
+
+        subjectService.delete(subject.getId(), user);
+        entityManager.flush();
+
+        assertEquals(0, subjectSummaryRepository.count());
+    }
+
+    private List<SubjectSummaryResponse> summaries() {
+        entityManager.flush();
+        entityManager.clear();
+
+        return subjectSummaryService.fetch(null, null, user).items();
+    }
+}
@@ -0,0 +1,162 @@
+package com.davsilvam.repositories;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectSummary;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import com.davsilvam.services.SubjectSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SubjectSummaryService.class)
+@ActiveProfiles("test")
+@DisplayName("Version Stamp Tests")
+class VersionStampTest {
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    GradeRepository gradeRepository;
+
+    @Autowired
+    SubjectRepository subjectRepository;
+
+    @Autowired
+    ProfessorRepository professorRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    SubjectSummaryService subjectSummaryService;
+
+    User user;
+
+    Subject subject;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("Test User", "test@example.com", "password"));
+        subject = entityManager.persist(new Subject("Subject", "Description", user));
+        entityManager.persist(new SubjectSummary(subject));
+        entityManager.persist(new Grade("Grade 1", 8.0f, subject));
+        entityManager.persist(new Grade("Grade 2", 6.0f, subject));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("should stamp no rows with a zero count")
+    void stampCase1() {
+        VersionStamp stamp = gradeRepository.getVersionStampBySubjectId(entityManager.persistAndFlush(new Subject("Empty", "Description", user)).getId());
+
+        assertEquals(new VersionStamp(0L, null, null), stamp);
+    }
+
+    @Test
+    @DisplayName("should change the stamp when a row is inserted, updated or deleted")
+    void stampCase2() {
+        VersionStamp initial = gradeRepository.getVersionStampBySubjectId(subject.getId());
+
+        Grade inserted = entityManager.persistAndFlush(new Grade("Grade 3", 10.0f, subject));
+        subjectSummaryService.recordGrades(subject.getId(), 1, 10.0);
+        VersionStamp afterInsert = gradeRepository.getVersionStampBySubjectId(subject.getId());
+
+        inserted.setValue(9.0f);
+        entityManager.flush();
+        VersionStamp afterUpdate = gradeRepository.getVersionStampBySubjectId(subject.getId());
+
+        entityManager.remove(inserted);
+        entityManager.flush();
+        subjectSummaryService.recordGrades(subject.getId(), -1, -9.0);
+        VersionStamp afterDelete = gradeRepository.getVersionStampBySubjectId(subject.getId());
+
+        assertEquals(2, initial.count());
+        assertEquals(initial.revision() + 1, afterInsert.revision());
+        assertEquals(afterInsert.versionSum() + 1, afterUpdate.versionSum());
+        assertEquals(1, inserted.getVersion());
+        assertNotEquals(afterUpdate, afterDelete);
+        assertEquals(initial.count(), afterDelete.count());
+        assertEquals(initial.versionSum(), afterDelete.versionSum());
+    }
+
+    @Test
+    @DisplayName("should change the stamp when a row is replaced by a new one, even below a legacy UUIDv4 id")
+    void stampCase3() {
+        // Rows written before UUIDv7 ids keep random ids, which as text sort above every new one
+        entityManager.getEntityManager().createNativeQuery("insert into grades (id, name, value, subject_id) values (:id, 'Legacy', 7, :subjectId)")
+                .setParameter("id", UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479"))
+                .setParameter("subjectId", subject.getId())
+                .executeUpdate();
+        Grade replaced = gradeRepository.findAll().stream().filter(grade -> grade.getName().equals("Grade 1")).findFirst().orElseThrow();
+        VersionStamp initial = gradeRepository.getVersionStampBySubjectId(subject.getId());
+        VersionStamp initialByUser = gradeRepository.getVersionStampBySubjectUserId(user.getId());
+
+        entityManager.remove(replaced);
+        entityManager.flush();
+        subjectSummaryService.recordGrades(subject.getId(), -1, -replaced.getValue());
+        entityManager.persistAndFlush(new Grade(replaced.getName(), replaced.getValue(), subject));
+        subjectSummaryService.recordGrades(subject.getId(), 1, replaced.getValue());
+        VersionStamp replacedStamp = gradeRepository.getVersionStampBySubjectId(subject.getId());
+
+        assertEquals(initial.count(), replacedStamp.count());
+        assertEquals(initial.versionSum(), replacedStamp.versionSum());
+        assertNotEquals(initial, replacedStamp);
+        assertNotEquals(initialByUser, gradeRepository.getVersionStampBySubjectUserId(user.getId()));
+    }
+
+    @Test
+    @DisplayName("should change the stamp of the subjects when one is replaced by a new one, even below a legacy UUIDv4 id")
+    void stampCase5() {
+        entityManager.getEntityManager().createNativeQuery("insert into subjects (id, name, description, user_id) values (:id, 'Legacy', 'Description', :userId)")
+                .setParameter("id", UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479"))
+                .setParameter("userId", user.getId())
+                .executeUpdate();
+        Subject replaced = entityManager.persistAndFlush(new Subject("Replaced", "Description", user));
+        VersionStamp initial = subjectRepository.getVersionStampByUserId(user.getId());
+
+        entityManager.remove(replaced);
+        entityManager.flush();
+        userRepository.incrementRevision(user.getId());
+        entityManager.persistAndFlush(new Subject("Replaced", "Description", user));
+        userRepository.incrementRevision(user.getId());
+        VersionStamp replacedStamp = subjectRepository.getVersionStampByUserId(user.getId());
+
+        assertEquals(initial.count(), replacedStamp.count());
+        assertEquals(initial.versionSum(), replacedStamp.versionSum());
+        assertEquals(initial.revision() + 2, replacedStamp.revision());
+    }
+
+    @Test
+    @DisplayName("should increment the subject version when its professors change, but not the professor version")
+    void stampCase4() {
+        Professor professor = entityManager.persist(new Professor("Professor", "professor@example.com", user));
+        entityManager.flush();
+        long subjectVersion = subject.getVersion();
+
+        subject.setProfessors(new ArrayList<>(List.of(professor)));
+        professor.addSubject(subject);
+        entityManager.flush();
+
+        assertEquals(subjectVersion + 1, subject.getVersion());
+        assertEquals(0, professor.getVersion());
+        assertEquals(new VersionStamp(1L, 0L, 0L), professorRepository.getVersionStampBySubjectId(subject.getId()));
+        assertEquals(subjectVersion + 1, subjectRepository.getVersionStampByUserId(user.getId()).versionSum());
+    }
+}
@@ -0,0 +1,166 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.davsilvam.domain.absence.dtos.AbsenceImportResponse;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Absence Import Service Tests")
+class AbsenceImportServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    @Mock
+    EntityManager entityManager;
+
+    AbsenceImportService absenceImportService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+    Subject mockSubject;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        absenceImportService = new AbsenceImportService(absenceRepository, new OwnershipService(subjectRepository, professorRepository, gradeRepository, absenceRepository), new SubjectSummaryService(subjectSummaryRepository), entityManager);
+        when(subjectSummaryRepository.increment(any(), anyLong(), anyDouble(), anyLong(), any())).thenReturn(1);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+        mockSubject = new Subject(UUID.randomUUID(), "Test Subject", "Test Description", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findAllByIdInAndUserId(anyCollection(), eq(mockUser.getId()))).thenReturn(List.of(mockSubject));
+        when(entityManager.getReference(Subject.class, mockSubject.getId())).thenReturn(mockSubject);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to import absences, reporting the rejected rows")
+    void importCase1() {
+        UUID foreignSubjectId = UUID.randomUUID();
+        String tomorrow = LocalDate.now().plusDays(1).format(AbsenceDates.FORMATTER);
+        String csv = String.join("\n",
+                "subject_id,date,amount",
+                mockSubject.getId() + ",10/02/2024,2",
+                foreignSubjectId + ",10/02/2024,2",
+                mockSubject.getId() + ",31/02/2024,2",
+                mockSubject.getId() + "," + tomorrow + ",2",
+                mockSubject.getId() + ",10/02/2024,two",
+                "",
+                mockSubject.getId() + ",11/02/2024,1"
+        );
+
+        AbsenceImportResponse result = absenceImportService.importCsv(stream(csv), mockUser);
+
+        assertEquals(2, result.imported());
+        assertEquals(4, result.rejected());
+        assertEquals(3, result.errors().get(0).line());
+        assertEquals("Subject not found.", result.errors().get(0).error());
+        assertEquals("Invalid date format, please use dd/MM/yyyy.", result.errors().get(1).error());
+        assertEquals("Absence date cannot be in the future.", result.errors().get(2).error());
+        assertEquals(6, result.errors().get(3).line());
+        verify(subjectRepository, times(1)).findAllByIdInAndUserId(Set.of(mockSubject.getId(), foreignSubjectId), mockUser.getId());
+        verify(absenceRepository, times(1)).saveAll(argThat(absences -> ((List<Absence>) absences).size() == 2));
+    }
+
+    @Test
+    @DisplayName("should be able to import a large file in chunks, checking each subject once")
+    void importCase2() {
+        int rows = AbsenceImportService.CHUNK_SIZE * 2 + 500;
+        StringBuilder csv = new StringBuilder();
+
+        for (int index = 0; index < rows; index++) {
+            csv.append(mockSubject.getId()).append(",10/02/2024,1\n");
+        }
+
+        AbsenceImportResponse result = absenceImportService.importCsv(stream(csv.toString()), mockUser);
+
+        assertEquals(rows, result.imported());
+        assertEquals(0, result.rejected());
+        verify(subjectRepository, times(1)).findAllByIdInAndUserId(anyCollection(), eq(mockUser.getId()));
+        verify(absenceRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(0L), eq(0.0), eq((long) rows), any());
+    }
+
+    @Test
+    @DisplayName("should be able to report only the first rejected rows")
+    void importCase3() {
+        int rows = AbsenceImportService.MAX_REPORTED_ERRORS * 3;
+        StringBuilder csv = new StringBuilder();
+
+        for (int index = 0; index < rows; index++) {
+            csv.append("not-a-subject,10/02/2024,1\n");
+        }
+
+        AbsenceImportResponse result = absenceImportService.importCsv(stream(csv.toString()), mockUser);
+
+        assertEquals(0, result.imported());
+        assertEquals(rows, result.rejected());
+        assertEquals(AbsenceImportService.MAX_REPORTED_ERRORS, result.errors().size());
+        verifyNoInteractions(subjectRepository);
+    }
+
+    @Test
+    @DisplayName("should reject the dates the shared dd/MM/yyyy formatter does not read")
+    void importCase4() {
+        String csv = String.join("\n",
+                mockSubject.getId() + ",1/2/2024,1",
+                mockSubject.getId() + ",2024-02-10,1",
+                mockSubject.getId() + ",29/02/2023,1",
+                mockSubject.getId() + ",10/02/20245,1",
+                mockSubject.getId() + ", 29/02/2024 ,1"
+        );
+
+        AbsenceImportResponse result = absenceImportService.importCsv(stream(csv), mockUser);
+
+        assertEquals(1, result.imported());
+        assertEquals(4, result.rejected());
+        assertTrue(result.errors().stream().allMatch(error -> error.error().equals("Invalid date format, please use dd/MM/yyyy.")));
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,395 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.AbsenceDates;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.absence.dtos.CreateAbsenceRequest;
+import com.davsilvam.domain.absence.dtos.UpdateAbsenceRequest;
+import com.davsilvam.domain.absence.exceptions.AbsenceNotFoundException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceAmountException;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceDateException;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Absence Service Tests")
+class AbsenceServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    AbsenceService absenceService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+    Subject mockSubject;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        absenceService = new AbsenceService(absenceRepository, new OwnershipService(subjectRepository, professorRepository, gradeRepository, absenceRepository), new SubjectSummaryService(subjectSummaryRepository));
+        when(subjectSummaryRepository.increment(any(), anyLong(), anyDouble(), anyLong(), any())).thenReturn(1);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+        mockSubject = new Subject(UUID.randomUUID(), "Test Subject", "Test Description", mockUser, new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to get a absence")
+    void getCase1() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+
+        Absence result = absenceService.get(absenceId, mockUser);
+
+        assertNotNull(result);
+        assertEquals(absenceId, result.getId());
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to get a nonexistent absence")
+    void getCase2() {
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(AbsenceNotFoundException.class, () -> absenceService.get(absenceId, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to get a absence from a nonexistent subject")
+    void getCase3() {
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.empty());
+        when(absenceRepository.existsById(absenceId)).thenReturn(false);
+
+        assertThrows(AbsenceNotFoundException.class, () -> absenceService.get(absenceId, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able not able to get a absence from another user")
+    void getCase4() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.existsById(absenceId)).thenReturn(true);
+
+        assertThrows(UserUnauthorizedException.class, () -> absenceService.get(absenceId, unauthorizedMockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, unauthorizedMockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to fetch absences from a subject")
+    void fetchCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        List<UUID> mockAbsenceIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<AbsenceResponse> mockAbsences = List.of(new AbsenceResponse(mockAbsenceIds.get(0), LocalDate.now(), 2, mockSubject.getId()), new AbsenceResponse(mockAbsenceIds.get(1), LocalDate.now(), 2, mockSubject.getId()));
+
+        when(absenceRepository.findPageBySubjectId(mockSubject.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockAbsences));
+
+        CursorPage<AbsenceResponse> result = absenceService.fetch(mockSubject.getId(), null, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockAbsences, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(absenceRepository, times(1)).findPageBySubjectId(mockSubject.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to fetch empty absences from a subject")
+    void fetchCase2() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        List<AbsenceResponse> mockAbsences = new ArrayList<>();
+
+        when(absenceRepository.findPageBySubjectId(mockSubject.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockAbsences));
+
+        CursorPage<AbsenceResponse> result = absenceService.fetch(mockSubject.getId(), null, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockAbsences, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(absenceRepository, times(1)).findPageBySubjectId(mockSubject.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to create a absence")
+    void createCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.save(any(Absence.class))).thenReturn(mockAbsence);
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest("01/01/2024", 2, mockSubject.getId());
+
+        Absence result = absenceService.create(request, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockAbsence);
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(absenceRepository, times(1)).save(any(Absence.class));
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(0L), eq(0.0), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a absence from a nonexistent subject")
+    void createCase2() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.empty());
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest("01/01/2024", 2, mockSubject.getId());
+
+        assertThrows(SubjectNotFoundException.class, () -> absenceService.create(request, mockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a absence from another user")
+    void createCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest("01/01/2024", 2, mockSubject.getId());
+
+        assertThrows(UserUnauthorizedException.class, () -> absenceService.create(request, unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a absence with a invalid date")
+    void createCase4() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest("3143214512412412", 2, mockSubject.getId());
+
+        assertThrows(InvalidAbsenceDateException.class, () -> absenceService.create(request, mockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a absence with a date in the future")
+    void createCase5() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        String futureDateString = LocalDate.now().plusDays(12).format(AbsenceDates.FORMATTER);
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest(futureDateString, 2, mockSubject.getId());
+
+        assertThrows(InvalidAbsenceDateException.class, () -> absenceService.create(request, mockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should not be able to create a absence without an amount")
+    void createCase6() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        CreateAbsenceRequest request = new CreateAbsenceRequest("01/01/2024", null, mockSubject.getId());
+
+        assertThrows(InvalidAbsenceAmountException.class, () -> absenceService.create(request, mockUser));
+        verify(absenceRepository, never()).save(any(Absence.class));
+        verifyNoInteractions(subjectSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to update the date and value of a absence")
+    void updateCase1() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+        when(absenceRepository.save(any(Absence.class))).thenReturn(mockAbsence);
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of("01/01/2024"), Optional.of(4));
+
+        Absence result = absenceService.update(absenceId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockAbsence);
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(0L), eq(0.0), eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("should be able to update the date of a absence")
+    void updateCase2() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+        when(absenceRepository.save(any(Absence.class))).thenReturn(mockAbsence);
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of("01/01/2024"), Optional.empty());
+
+        Absence result = absenceService.update(absenceId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockAbsence);
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to update the value of a absence")
+    void updateCase3() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+        when(absenceRepository.save(any(Absence.class))).thenReturn(mockAbsence);
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.empty(), Optional.of(4));
+
+        Absence result = absenceService.update(absenceId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockAbsence);
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a nonexistent absence")
+    void updateCase4() {
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.empty());
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of("01/01/2024"), Optional.of(4));
+
+        assertThrows(AbsenceNotFoundException.class, () -> absenceService.update(absenceId, request, null, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a absence from another user")
+    void updateCase5() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.existsById(absenceId)).thenReturn(true);
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of("01/01/2024"), Optional.of(4));
+
+        assertThrows(UserUnauthorizedException.class, () -> absenceService.update(absenceId, request, null, unauthorizedMockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, unauthorizedMockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a absence with a invalid date")
+    void updateCase6() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of("3143214512412412"), Optional.of(4));
+
+        assertThrows(InvalidAbsenceDateException.class, () -> absenceService.update(absenceId, request, null, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a absence with a date in the future")
+    void updateCase7() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+
+        String futureDateString = LocalDate.now().plusDays(12).format(AbsenceDates.FORMATTER);
+
+        UpdateAbsenceRequest request = new UpdateAbsenceRequest(Optional.of(futureDateString), Optional.of(4));
+
+        assertThrows(InvalidAbsenceDateException.class, () -> absenceService.update(absenceId, request, null, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to delete a absence")
+    void deleteCase1() {
+        UUID absenceId = UUID.randomUUID();
+        Absence mockAbsence = new Absence(absenceId, LocalDate.now(), 2, mockSubject);
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.of(mockAbsence));
+
+        absenceService.delete(absenceId, mockUser);
+
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+        verify(absenceRepository, times(1)).delete(mockAbsence);
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(0L), eq(0.0), eq(-2L), any());
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a nonexistent absence")
+    void deleteCase2() {
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.findByIdAndSubjectUserId(absenceId, mockUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(AbsenceNotFoundException.class, () -> absenceService.delete(absenceId, mockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a absence from another user")
+    void deleteCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID absenceId = UUID.randomUUID();
+
+        when(absenceRepository.existsById(absenceId)).thenReturn(true);
+
+        assertThrows(UserUnauthorizedException.class, () -> absenceService.delete(absenceId, unauthorizedMockUser));
+        verify(absenceRepository, times(1)).findByIdAndSubjectUserId(absenceId, unauthorizedMockUser.getId());
+    }
+}
\ No newline at end of file
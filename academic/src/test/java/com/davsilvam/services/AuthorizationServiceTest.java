@@ -6,6 +6,9 @@ import com.davsilvam.domain.user.dtos.LoginResponse;
 import com.davsilvam.domain.user.dtos.RegisterRequest;
 import com.davsilvam.domain.user.dtos.RegisterResponse;
 import com.davsilvam.domain.user.exceptions.EmailAlreadyUsedException;
+import com.davsilvam.domain.user.exceptions.TooManyLoginAttemptsException;
+import com.davsilvam.infra.security.LoginThrottle;
+import com.davsilvam.infra.security.PrincipalCache;
 import com.davsilvam.infra.security.TokenService;
 import com.davsilvam.repositories.UserRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -25,6 +28,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +47,12 @@ class AuthorizationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private AuthorizationService authorizationService;
 
@@ -77,6 +88,7 @@ class AuthorizationServiceTest {
         verify(userRepository).findByEmail(request.email());
         verify(passwordEncoder).encode(request.password());
         verify(userRepository).save(any(User.class));
+        verify(principalCache).invalidate(mockUser.getEmail());
     }
 
     @Test
@@ -88,6 +100,7 @@ class AuthorizationServiceTest {
 
         assertThrows(EmailAlreadyUsedException.class, () -> authorizationService.register(request));
         verify(userRepository).findByEmail(request.email());
+        verify(principalCache, never()).invalidate(any());
     }
 
     @Test
@@ -99,10 +112,11 @@ class AuthorizationServiceTest {
         when(applicationContext.getBean(AuthenticationManager.class)).thenReturn(authentication -> new UsernamePasswordAuthenticationToken(mockUser, null));
         when(tokenService.generateToken(mockUser)).thenReturn("token");
 
-        LoginResponse result = authorizationService.login(request);
+        LoginResponse result = authorizationService.login(request, "127.0.0.1");
 
         assertNotNull(result);
         assertEquals(mockResponse, result);
+        verify(loginThrottle).acquire(request.email(), "127.0.0.1");
         verify(applicationContext).getBean(AuthenticationManager.class);
         verify(tokenService).generateToken(mockUser);
     }
@@ -116,7 +130,20 @@ class AuthorizationServiceTest {
             throw new UsernameNotFoundException("Invalid credentials.");
         });
 
-        assertThrows(UsernameNotFoundException.class, () -> authorizationService.login(request));
+        assertThrows(UsernameNotFoundException.class, () -> authorizationService.login(request, "127.0.0.1"));
         verify(applicationContext).getBean(AuthenticationManager.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should not check the password of a throttled login")
+    void loginCase3() {
+        LoginRequest request = new LoginRequest("test@example.com", "password");
+
+        doThrow(new TooManyLoginAttemptsException("Too many login attempts, please try again later.", 12))
+                .when(loginThrottle).acquire(request.email(), "127.0.0.1");
+
+        TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class, () -> authorizationService.login(request, "127.0.0.1"));
+        assertEquals(12, exception.getRetryAfterSeconds());
+        verify(applicationContext, never()).getBean(AuthenticationManager.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.dtos.SubjectProfessorProjection;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryProjection;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.dtos.DashboardResponse;
+import com.davsilvam.domain.user.dtos.DashboardSubjectResponse;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Dashboard Service Tests")
+class DashboardServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    DashboardService dashboardService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        dashboardService = new DashboardService(subjectRepository, professorRepository, subjectSummaryRepository);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to get the dashboard of the user")
+    void getCase1() {
+        UUID gradedId = UUID.randomUUID();
+        UUID emptyId = UUID.randomUUID();
+        ProfessorResponse professor = new ProfessorResponse(UUID.randomUUID(), "Test Professor", "professor@example.com");
+
+        when(subjectSummaryRepository.findAllByUserId(mockUser.getId())).thenReturn(List.of(
+                new SubjectSummaryProjection(gradedId, "Graded", "Description", 2L, 15.0, 4L, Instant.now()),
+                new SubjectSummaryProjection(emptyId, "Empty", "Description", null, null, null, null)
+        ));
+        when(subjectRepository.findProfessorsBySubjectUserId(mockUser.getId())).thenReturn(List.of(
+                new SubjectProfessorProjection(gradedId, professor.id(), professor.name(), professor.email())
+        ));
+        when(professorRepository.findAllByUserId(mockUser.getId())).thenReturn(List.of(professor));
+
+        DashboardResponse result = dashboardService.get(mockUser);
+
+        assertEquals(mockUser.getId(), result.id());
+        assertEquals(new DashboardSubjectResponse(gradedId, "Graded", "Description", List.of(professor), 2, 7.5, 4), result.subjects().get(0));
+        assertEquals(new DashboardSubjectResponse(emptyId, "Empty", "Description", List.of(), 0, null, 0), result.subjects().get(1));
+        assertEquals(List.of(professor), result.professors());
+    }
+
+    @Test
+    @DisplayName("should be able to get the dashboard of a user without subjects")
+    void getCase2() {
+        DashboardResponse result = dashboardService.get(mockUser);
+
+        assertTrue(result.subjects().isEmpty());
+        assertTrue(result.professors().isEmpty());
+        verify(subjectSummaryRepository, times(1)).findAllByUserId(mockUser.getId());
+    }
+}
@@ -0,0 +1,473 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.grade.dtos.GradeBatchResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.grade.dtos.UpdateGradeRequest;
+import com.davsilvam.domain.grade.exceptions.GradeNotFoundException;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeBatchException;
+import com.davsilvam.domain.grade.exceptions.InvalidGradeException;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Grade Service Tests")
+class GradeServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    GradeService gradeService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+    Subject mockSubject;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        gradeService = new GradeService(gradeRepository, new OwnershipService(subjectRepository, professorRepository, gradeRepository, absenceRepository), new SubjectSummaryService(subjectSummaryRepository));
+        when(subjectSummaryRepository.increment(any(), anyLong(), anyDouble(), anyLong(), any())).thenReturn(1);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+        mockSubject = new Subject(UUID.randomUUID(), "Test Subject", "Test Description", mockUser, new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to get a grade")
+    void getCase1() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+
+        Grade result = gradeService.get(gradeId, mockUser);
+
+        assertNotNull(result);
+        assertEquals(gradeId, result.getId());
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to get a nonexistent grade")
+    void getCase2() {
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(GradeNotFoundException.class, () -> gradeService.get(gradeId, mockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to get a grade from a nonexistent subject")
+    void getCase3() {
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(GradeNotFoundException.class, () -> gradeService.get(gradeId, mockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able not able to get a grade from another user")
+    void getCase4() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.existsById(gradeId)).thenReturn(true);
+
+        assertThrows(UserUnauthorizedException.class, () -> gradeService.get(gradeId, unauthorizedMockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, unauthorizedMockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to fetch grades from a subject")
+    void fetchCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        List<UUID> mockGradeIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<GradeResponse> mockGrades = List.of(
+                new GradeResponse(mockGradeIds.get(0), "Test Grade 1", 10.0f, mockSubject.getId()),
+                new GradeResponse(mockGradeIds.get(1), "Test Grade 2", 10.0f, mockSubject.getId())
+        );
+
+        when(gradeRepository.findPageBySubjectId(mockSubject.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockGrades));
+
+        CursorPage<GradeResponse> result = gradeService.fetch(mockSubject.getId(), null, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockGrades, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(gradeRepository, times(1)).findPageBySubjectId(mockSubject.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to fetch empty grades from a subject")
+    void fetchCase2() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        List<GradeResponse> mockGrades = new ArrayList<>();
+
+        when(gradeRepository.findPageBySubjectId(mockSubject.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockGrades));
+
+        CursorPage<GradeResponse> result = gradeService.fetch(mockSubject.getId(), null, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockGrades, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(gradeRepository, times(1)).findPageBySubjectId(mockSubject.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to get a new ETag of the grades of a subject when one of them changes")
+    void fetchETagCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+        when(gradeRepository.getVersionStampBySubjectId(mockSubject.getId()))
+                .thenReturn(new VersionStamp(1L, 0L, 3L))
+                .thenReturn(new VersionStamp(1L, 1L, 3L));
+
+        String etag = gradeService.fetchETag(mockSubject.getId(), mockUser);
+
+        assertNotEquals(etag, gradeService.fetchETag(mockSubject.getId(), mockUser));
+        verify(gradeRepository, never()).findPageBySubjectId(any(), any());
+    }
+
+    @Test
+    @DisplayName("should be not able to get the ETag of the grades of a subject from another user")
+    void fetchETagCase2() {
+        User anotherUser = new User(UUID.randomUUID(), "Another User", "another@example.com", "password");
+
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        assertThrows(UserUnauthorizedException.class, () -> gradeService.fetchETag(mockSubject.getId(), anotherUser));
+        verifyNoInteractions(gradeRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to fetch the page of grades after a cursor")
+    void fetchCase3() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        UUID cursor = UUID.randomUUID();
+        GradeResponse mockGrade = new GradeResponse(UUID.randomUUID(), "Test Grade", 10.0f, mockSubject.getId());
+        List<GradeResponse> mockGrades = List.of(mockGrade);
+
+        when(gradeRepository.findPageBySubjectIdAfter(mockSubject.getId(), cursor, Pagination.limit(1)))
+                .thenReturn(new SliceImpl<>(mockGrades, Pagination.limit(1), true));
+
+        CursorPage<GradeResponse> result = gradeService.fetch(mockSubject.getId(), cursor, 1, mockUser);
+
+        assertEquals(mockGrades, result.items());
+        assertTrue(result.has_next());
+        assertEquals(mockGrade.id(), result.next_cursor());
+        verify(gradeRepository, never()).findPageBySubjectId(any(), any());
+    }
+
+    @Test
+    @DisplayName("should be able to create a grade")
+    void createCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.save(any(Grade.class))).thenReturn(mockGrade);
+
+        CreateGradeRequest request = new CreateGradeRequest("Test Grade", 10.0f, mockSubject.getId());
+
+        Grade result = gradeService.create(request, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockGrade);
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verify(gradeRepository, times(1)).save(any(Grade.class));
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(1L), eq(10.0), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a grade from a nonexistent subject")
+    void createCase2() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.empty());
+
+        CreateGradeRequest request = new CreateGradeRequest("Test Grade", 10.0f, mockSubject.getId());
+
+        assertThrows(SubjectNotFoundException.class, () -> gradeService.create(request, mockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to create a grade from another user")
+    void createCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        CreateGradeRequest request = new CreateGradeRequest("Test Grade", 10.0f, mockSubject.getId());
+
+        assertThrows(UserUnauthorizedException.class, () -> gradeService.create(request, unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+    }
+
+    @Test
+    @DisplayName("should not be able to create a grade without a name or a value")
+    void createCase4() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        assertThrows(InvalidGradeException.class, () -> gradeService.create(new CreateGradeRequest("Test Grade", null, mockSubject.getId()), mockUser));
+        assertThrows(InvalidGradeException.class, () -> gradeService.create(new CreateGradeRequest(" ", 10.0f, mockSubject.getId()), mockUser));
+        verify(gradeRepository, never()).save(any(Grade.class));
+        verifyNoInteractions(subjectSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to create a batch of grades, rejecting the invalid ones")
+    void createBatchCase1() {
+        UUID foreignSubjectId = UUID.randomUUID();
+        List<CreateGradeRequest> requests = List.of(
+                new CreateGradeRequest("Test Grade 1", 10.0f, mockSubject.getId()),
+                new CreateGradeRequest("Test Grade 2", 8.0f, foreignSubjectId),
+                new CreateGradeRequest("Test Grade 3", null, mockSubject.getId()),
+                new CreateGradeRequest("Test Grade 4", 7.5f, mockSubject.getId())
+        );
+
+        when(subjectRepository.findAllByIdInAndUserId(Set.of(mockSubject.getId(), foreignSubjectId), mockUser.getId())).thenReturn(List.of(mockSubject));
+        when(gradeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Grade> grades = invocation.getArgument(0);
+            grades.forEach(grade -> grade.setId(UUID.randomUUID()));
+            return grades;
+        });
+
+        GradeBatchResponse result = gradeService.createBatch(requests, mockUser);
+
+        assertEquals(2, result.created());
+        assertEquals(2, result.rejected());
+        assertNotNull(result.results().get(0).id());
+        assertEquals("Subject not found.", result.results().get(1).error());
+        assertEquals("Grade value is required.", result.results().get(2).error());
+        assertNotNull(result.results().get(3).id());
+        verify(subjectRepository, times(1)).findAllByIdInAndUserId(Set.of(mockSubject.getId(), foreignSubjectId), mockUser.getId());
+        verify(gradeRepository, times(1)).saveAll(argThat(grades -> ((List<Grade>) grades).size() == 2));
+        verify(gradeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should not be able to create an empty batch of grades")
+    void createBatchCase2() {
+        assertThrows(InvalidGradeBatchException.class, () -> gradeService.createBatch(List.of(), mockUser));
+        verifyNoInteractions(subjectRepository, gradeRepository);
+    }
+
+    @Test
+    @DisplayName("should not be able to create a batch of grades over the size limit")
+    void createBatchCase3() {
+        List<CreateGradeRequest> requests = Collections.nCopies(GradeService.MAX_BATCH_SIZE + 1, new CreateGradeRequest("Test Grade", 10.0f, mockSubject.getId()));
+
+        assertThrows(InvalidGradeBatchException.class, () -> gradeService.createBatch(requests, mockUser));
+        verifyNoInteractions(subjectRepository, gradeRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to update the date and value of a grade")
+    void updateCase1() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(mockGrade);
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.of("Test Grade"), Optional.of(10.0f));
+
+        Grade result = gradeService.update(gradeId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockGrade);
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+        verifyNoInteractions(subjectSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to update the date of a grade")
+    void updateCase2() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(mockGrade);
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.of("Test Grade"), Optional.empty());
+
+        Grade result = gradeService.update(gradeId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockGrade);
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to update the value of a grade")
+    void updateCase3() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(mockGrade);
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.empty(), Optional.of(10.0f));
+
+        Grade result = gradeService.update(gradeId, request, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(result, mockGrade);
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a nonexistent grade")
+    void updateCase4() {
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.empty());
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.of("Test Grade"), Optional.of(10.0f));
+
+        assertThrows(GradeNotFoundException.class, () -> gradeService.update(gradeId, request, null, mockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to update a grade from another user")
+    void updateCase5() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.existsById(gradeId)).thenReturn(true);
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.of("Test Grade"), Optional.of(10.0f));
+
+        assertThrows(UserUnauthorizedException.class, () -> gradeService.update(gradeId, request, null, unauthorizedMockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, unauthorizedMockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to update a grade when If-Match holds its current ETag")
+    void updateCase6() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+        when(gradeRepository.save(any(Grade.class))).thenReturn(mockGrade);
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.of("Renamed Grade"), Optional.empty());
+
+        Grade result = gradeService.update(gradeId, request, ETags.of(gradeId, 0L), mockUser);
+
+        assertEquals("Renamed Grade", result.getName());
+        verify(gradeRepository, times(1)).save(mockGrade);
+    }
+
+    @Test
+    @DisplayName("should be not able to update a grade when If-Match holds an outdated ETag")
+    void updateCase7() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+
+        UpdateGradeRequest request = new UpdateGradeRequest(Optional.empty(), Optional.of(4.0f));
+
+        assertThrows(StaleVersionException.class, () -> gradeService.update(gradeId, request, ETags.of(gradeId, 1L), mockUser));
+        assertEquals(10.0f, mockGrade.getValue());
+        verify(gradeRepository, never()).save(any());
+        verifyNoInteractions(subjectSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to delete a grade")
+    void deleteCase1() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+
+        gradeService.delete(gradeId, mockUser);
+
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+        verify(gradeRepository, times(1)).delete(mockGrade);
+        verify(subjectSummaryRepository, times(1)).increment(eq(mockSubject.getId()), eq(-1L), eq(-10.0), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a nonexistent grade")
+    void deleteCase2() {
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.empty());
+
+        assertThrows(GradeNotFoundException.class, () -> gradeService.delete(gradeId, mockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a grade from another user")
+    void deleteCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID gradeId = UUID.randomUUID();
+
+        when(gradeRepository.existsById(gradeId)).thenReturn(true);
+
+        assertThrows(UserUnauthorizedException.class, () -> gradeService.delete(gradeId, unauthorizedMockUser));
+        verify(gradeRepository, times(1)).findByIdAndSubjectUserId(gradeId, unauthorizedMockUser.getId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.exceptions.GradeNotFoundException;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.exceptions.ProfessorNotFoundException;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Ownership Service Tests")
+class OwnershipServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
+    @InjectMocks
+    OwnershipService ownershipService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+    Subject mockSubject;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+        mockSubject = new Subject(UUID.randomUUID(), "Test Subject", "Test Description", mockUser, new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to require an owned subject with a lookup by id")
+    void requireSubjectCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        Subject result = ownershipService.requireSubject(mockSubject.getId(), mockUser);
+
+        assertEquals(mockSubject, result);
+        verify(subjectRepository, times(1)).findById(mockSubject.getId());
+        verifyNoMoreInteractions(subjectRepository);
+    }
+
+    @Test
+    @DisplayName("should be not able to require a nonexistent subject")
+    void requireSubjectCase2() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.empty());
+
+        assertThrows(SubjectNotFoundException.class, () -> ownershipService.requireSubject(mockSubject.getId(), mockUser));
+    }
+
+    @Test
+    @DisplayName("should be not able to require a subject from another user")
+    void requireSubjectCase3() {
+        User anotherUser = new User(UUID.randomUUID(), "Another User", "another@example.com", "password");
+
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        assertThrows(UserUnauthorizedException.class, () -> ownershipService.requireSubject(mockSubject.getId(), anotherUser));
+    }
+
+    @Test
+    @DisplayName("should be able to check access to an owned subject")
+    void requireSubjectAccessCase1() {
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        assertDoesNotThrow(() -> ownershipService.requireSubjectAccess(mockSubject.getId(), mockUser));
+    }
+
+    @Test
+    @DisplayName("should be not able to access a subject from another user")
+    void requireSubjectAccessCase2() {
+        User anotherUser = new User(UUID.randomUUID(), "Another User", "another@example.com", "password");
+
+        when(subjectRepository.findById(mockSubject.getId())).thenReturn(Optional.of(mockSubject));
+
+        assertThrows(UserUnauthorizedException.class, () -> ownershipService.requireSubjectAccess(mockSubject.getId(), anotherUser));
+    }
+
+    @Test
+    @DisplayName("should be not able to require a nonexistent professor")
+    void requireProfessorCase1() {
+        UUID professorId = UUID.randomUUID();
+
+        when(professorRepository.findById(professorId)).thenReturn(Optional.empty());
+
+        assertThrows(ProfessorNotFoundException.class, () -> ownershipService.requireProfessor(professorId, mockUser));
+    }
+
+    @Test
+    @DisplayName("should be not able to require a professor from another user")
+    void requireProfessorCase2() {
+        UUID professorId = UUID.randomUUID();
+        User anotherUser = new User(UUID.randomUUID(), "Another User", "another@example.com", "password");
+
+        when(professorRepository.findById(professorId)).thenReturn(Optional.of(new Professor(professorId, "Test Professor", "professor@example.com", mockUser)));
+
+        assertThrows(UserUnauthorizedException.class, () -> ownershipService.requireProfessor(professorId, anotherUser));
+    }
+
+    @Test
+    @DisplayName("should be able to require an owned grade with a single query")
+    void requireGradeCase1() {
+        UUID gradeId = UUID.randomUUID();
+        Grade mockGrade = new Grade(gradeId, "Test Grade", 10.0f, mockSubject);
+
+        when(gradeRepository.findByIdAndSubjectUserId(gradeId, mockUser.getId())).thenReturn(Optional.of(mockGrade));
+
+        assertEquals(mockGrade, ownershipService.requireGrade(gradeId, mockUser));
+        verify(gradeRepository, never()).existsById(any());
+        verifyNoInteractions(subjectRepository);
+    }
+
+    @Test
+    @DisplayName("should be not able to require a nonexistent grade")
+    void requireGradeCase2() {
+        UUID gradeId = UUID.randomUUID();
+
+        assertThrows(GradeNotFoundException.class, () -> ownershipService.requireGrade(gradeId, mockUser));
+    }
+}
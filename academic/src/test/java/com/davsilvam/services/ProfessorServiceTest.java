@@ -1,21 +1,26 @@
 package com.davsilvam.services;
 
 import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
 import com.davsilvam.domain.user.User;
 import com.davsilvam.domain.professor.dtos.CreateProfessorRequest;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
 import com.davsilvam.domain.professor.dtos.UpdateProfessorRequest;
 import com.davsilvam.domain.professor.exceptions.ProfessorNotFoundException;
 import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
 import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
 import com.davsilvam.repositories.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Arrays;
 import java.util.List;
@@ -27,25 +32,31 @@ import static org.mockito.Mockito.*;
 
 @DisplayName("Professor Service Tests")
 class ProfessorServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
     @Mock
     ProfessorRepository professorRepository;
 
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
     @Mock
     UserRepository userRepository;
 
-    @InjectMocks
     ProfessorService professorService;
 
     AutoCloseable closeable;
 
-    @Mock
-    UserDetails userDetails;
-
     User mockUser;
 
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
+        professorService = new ProfessorService(professorRepository, subjectRepository, new OwnershipService(subjectRepository, professorRepository, gradeRepository, absenceRepository), userRepository);
         mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
     }
 
@@ -57,36 +68,26 @@ class ProfessorServiceTest {
     @Test
     @DisplayName("should be able to get a professor")
     void getCase1() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID subjectId = UUID.randomUUID();
         Professor mockProfessor = new Professor("Test Professor", "professor@example.com", mockUser);
 
         when(professorRepository.findById(subjectId)).thenReturn(Optional.of(mockProfessor));
 
-        Professor result = professorService.get(subjectId, userDetails);
+        Professor result = professorService.get(subjectId, mockUser);
 
         assertNotNull(result);
         assertEquals(mockProfessor, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).findById(subjectId);
     }
 
     @Test
     @DisplayName("should be not able to get a nonexistent professor")
     void getCase2() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID professorId = UUID.randomUUID();
 
         when(professorRepository.findById(professorId)).thenReturn(Optional.empty());
 
-        assertThrows(ProfessorNotFoundException.class, () -> professorService.get(professorId, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
+        assertThrows(ProfessorNotFoundException.class, () -> professorService.get(professorId, mockUser));
         verify(professorRepository, times(1)).findById(professorId);
     }
 
@@ -95,85 +96,64 @@ class ProfessorServiceTest {
     void getCase3() {
         User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
 
-        when(userDetails.getUsername()).thenReturn(unauthorizedMockUser.getEmail());
-        when(userRepository.findByEmail(unauthorizedMockUser.getEmail())).thenReturn(unauthorizedMockUser);
-
         UUID professorId = UUID.randomUUID();
-        Professor mockProfessor = new Professor("Test Professor", "professor@example.com", mockUser);
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(mockProfessor));
+        when(professorRepository.findById(professorId)).thenReturn(Optional.of(new Professor(professorId, "Test Professor", "professor@example.com", mockUser)));
 
-        assertThrows(UserUnauthorizedException.class, () -> professorService.get(professorId, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(unauthorizedMockUser.getEmail());
+        assertThrows(UserUnauthorizedException.class, () -> professorService.get(professorId, unauthorizedMockUser));
         verify(professorRepository, times(1)).findById(professorId);
     }
 
     @Test
     @DisplayName("should be able to fetch professors")
     void fetchCase1() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
-        List<Professor> mockProfessors = Arrays.asList(new Professor("Test Professor 1", "professor@example.com", mockUser), new Professor("Test Professor 2", "professor2@example.com", mockUser));
+        List<ProfessorResponse> mockProfessors = Arrays.asList(new ProfessorResponse(UUID.randomUUID(), "Test Professor 1", "professor@example.com"), new ProfessorResponse(UUID.randomUUID(), "Test Professor 2", "professor2@example.com"));
 
-        when(professorRepository.findAllByUserId(mockUser.getId())).thenReturn(mockProfessors);
+        when(professorRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockProfessors));
 
-        List<Professor> result = professorService.fetch(userDetails);
+        CursorPage<ProfessorResponse> result = professorService.fetch(null, null, mockUser);
 
         assertNotNull(result);
-        assertEquals(mockProfessors, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
-        verify(professorRepository, times(1)).findAllByUserId(mockUser.getId());
+        assertEquals(mockProfessors, result.items());
+        assertFalse(result.has_next());
+        verify(professorRepository, times(1)).findPageByUserId(mockUser.getId(), Pagination.limit(null));
     }
 
     @Test
     @DisplayName("should be able to fetch empty professors")
     void fetchCase2() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
+        List<ProfessorResponse> mockProfessors = List.of();
 
-        List<Professor> mockProfessors = List.of();
+        when(professorRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockProfessors));
 
-        when(professorRepository.findAllByUserId(mockUser.getId())).thenReturn(mockProfessors);
-
-        List<Professor> result = professorService.fetch(userDetails);
+        CursorPage<ProfessorResponse> result = professorService.fetch(null, null, mockUser);
 
         assertNotNull(result);
-        assertEquals(mockProfessors, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
-        verify(professorRepository, times(1)).findAllByUserId(mockUser.getId());
+        assertEquals(mockProfessors, result.items());
+        assertFalse(result.has_next());
+        verify(professorRepository, times(1)).findPageByUserId(mockUser.getId(), Pagination.limit(null));
     }
 
     @Test
     @DisplayName("should be able to create a professor")
     void createCase1() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         Professor mockProfessor = new Professor("Test Professor", "professor@example.com", mockUser);
 
         when(professorRepository.save(any(Professor.class))).thenReturn(mockProfessor);
 
         CreateProfessorRequest mockRequest = new CreateProfessorRequest(mockProfessor.getName(), mockProfessor.getEmail());
 
-        Professor result = professorService.create(mockRequest, userDetails);
+        Professor result = professorService.create(mockRequest, mockUser);
 
         assertNotNull(result);
         assertEquals(mockProfessor, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).save(any(Professor.class));
+        verify(userRepository, times(1)).incrementRevision(mockUser.getId());
     }
 
     @Test
     @DisplayName("should be able to update the name and email of a professor")
     void updateCase1() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID professorId = UUID.randomUUID();
         Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
@@ -184,12 +164,10 @@ class ProfessorServiceTest {
 
         when(professorRepository.save(mockProfessor)).thenReturn(updatedMockProfessor);
 
-        Professor result = professorService.update(professorId, mockRequest, userDetails);
+        Professor result = professorService.update(professorId, mockRequest, null, mockUser);
 
         assertNotNull(result);
         assertEquals(updatedMockProfessor, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).findById(professorId);
         verify(professorRepository, times(1)).save(mockProfessor);
     }
@@ -197,9 +175,6 @@ class ProfessorServiceTest {
     @Test
     @DisplayName("should be able to update the name of a professor")
     void updateCase2() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID professorId = UUID.randomUUID();
         Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
@@ -210,12 +185,10 @@ class ProfessorServiceTest {
 
         when(professorRepository.save(mockProfessor)).thenReturn(updatedMockProfessor);
 
-        Professor result = professorService.update(professorId, mockRequest, userDetails);
+        Professor result = professorService.update(professorId, mockRequest, null, mockUser);
 
         assertNotNull(result);
         assertEquals(updatedMockProfessor, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).findById(professorId);
         verify(professorRepository, times(1)).save(mockProfessor);
     }
@@ -223,9 +196,6 @@ class ProfessorServiceTest {
     @Test
     @DisplayName("should be able to update the email of a professor")
     void updateCase3() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID professorId = UUID.randomUUID();
         Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
@@ -236,12 +206,10 @@ class ProfessorServiceTest {
 
         when(professorRepository.save(mockProfessor)).thenReturn(updatedMockProfessor);
 
-        Professor result = professorService.update(professorId, mockRequest, userDetails);
+        Professor result = professorService.update(professorId, mockRequest, null, mockUser);
 
         assertNotNull(result);
         assertEquals(updatedMockProfessor, result);
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).findById(professorId);
         verify(professorRepository, times(1)).save(mockProfessor);
     }
@@ -249,18 +217,13 @@ class ProfessorServiceTest {
     @Test
     @DisplayName("should be not able to update a nonexistent professor")
     void updateCase4() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID nonExistingSubjectId = UUID.randomUUID();
 
         when(professorRepository.findById(nonExistingSubjectId)).thenReturn(Optional.empty());
 
         UpdateProfessorRequest mockRequest = new UpdateProfessorRequest(Optional.empty(), Optional.of("New Subject Description"));
 
-        assertThrows(ProfessorNotFoundException.class, () -> professorService.update(nonExistingSubjectId, mockRequest, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
+        assertThrows(ProfessorNotFoundException.class, () -> professorService.update(nonExistingSubjectId, mockRequest, null, mockUser));
         verify(professorRepository, times(1)).findById(nonExistingSubjectId);
     }
 
@@ -269,54 +232,39 @@ class ProfessorServiceTest {
     void updateCase5() {
         User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
 
-        when(userDetails.getUsername()).thenReturn(unauthorizedMockUser.getEmail());
-        when(userRepository.findByEmail(unauthorizedMockUser.getEmail())).thenReturn(unauthorizedMockUser);
-
         UUID professorId = UUID.randomUUID();
-        Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(mockProfessor));
+        when(professorRepository.findById(professorId)).thenReturn(Optional.of(new Professor(professorId, "Test Professor", "professor@example.com", mockUser)));
 
         UpdateProfessorRequest mockRequest = new UpdateProfessorRequest(Optional.empty(), Optional.of("New Subject Description"));
 
-        assertThrows(UserUnauthorizedException.class, () -> professorService.update(professorId, mockRequest, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(unauthorizedMockUser.getEmail());
+        assertThrows(UserUnauthorizedException.class, () -> professorService.update(professorId, mockRequest, null, unauthorizedMockUser));
         verify(professorRepository, times(1)).findById(professorId);
     }
 
     @Test
     @DisplayName("should be able to delete a professor")
     void deleteCase1() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID professorId = UUID.randomUUID();
         Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
         when(professorRepository.findById(professorId)).thenReturn(Optional.of(mockProfessor));
 
-        professorService.delete(professorId, userDetails);
+        professorService.delete(professorId, mockUser);
 
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
         verify(professorRepository, times(1)).findById(professorId);
         verify(professorRepository, times(1)).delete(mockProfessor);
+        verify(userRepository, times(1)).incrementRevision(mockUser.getId());
     }
 
     @Test
     @DisplayName("should be not able to delete a nonexistent professor")
     void deleteCase2() {
-        when(userDetails.getUsername()).thenReturn(mockUser.getEmail());
-        when(userRepository.findByEmail(mockUser.getEmail())).thenReturn(mockUser);
-
         UUID nonExistingProfessorId = UUID.randomUUID();
 
         when(professorRepository.findById(nonExistingProfessorId)).thenReturn(Optional.empty());
 
-        assertThrows(ProfessorNotFoundException.class, () -> professorService.delete(nonExistingProfessorId, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(mockUser.getEmail());
+        assertThrows(ProfessorNotFoundException.class, () -> professorService.delete(nonExistingProfessorId, mockUser));
         verify(professorRepository, times(1)).findById(nonExistingProfessorId);
     }
 
@@ -325,17 +273,11 @@ class ProfessorServiceTest {
     void deleteCase3() {
         User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
 
-        when(userDetails.getUsername()).thenReturn(unauthorizedMockUser.getEmail());
-        when(userRepository.findByEmail(unauthorizedMockUser.getEmail())).thenReturn(unauthorizedMockUser);
-
         UUID professorId = UUID.randomUUID();
-        Professor mockProfessor = new Professor(professorId, "Test Professor", "professor@example.com", mockUser);
 
-        when(professorRepository.findById(professorId)).thenReturn(Optional.of(mockProfessor));
+        when(professorRepository.findById(professorId)).thenReturn(Optional.of(new Professor(professorId, "Test Professor", "professor@example.com", mockUser)));
 
-        assertThrows(UserUnauthorizedException.class, () -> professorService.delete(professorId, userDetails));
-        verify(userDetails, times(1)).getUsername();
-        verify(userRepository, times(1)).findByEmail(unauthorizedMockUser.getEmail());
+        assertThrows(UserUnauthorizedException.class, () -> professorService.delete(professorId, unauthorizedMockUser));
         verify(professorRepository, times(1)).findById(professorId);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,523 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.grade.dtos.GradeStatsProjection;
+import com.davsilvam.domain.professor.Professor;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.SubjectExpansion;
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectProfessorsRequest;
+import com.davsilvam.domain.subject.dtos.SubjectProfessorProjection;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.davsilvam.domain.subject.dtos.SubjectStatsResponse;
+import com.davsilvam.domain.subject.dtos.UpdateSubjectRequest;
+import com.davsilvam.domain.subject.exceptions.SubjectNotFoundException;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.domain.version.dtos.VersionStamp;
+import com.davsilvam.domain.version.exceptions.StaleVersionException;
+import com.davsilvam.infra.http.ETags;
+import com.davsilvam.repositories.AbsenceRepository;
+import com.davsilvam.repositories.GradeRepository;
+import com.davsilvam.repositories.ProfessorRepository;
+import com.davsilvam.repositories.SubjectRepository;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import com.davsilvam.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Subject Service Tests")
+class SubjectServiceTest {
+    @Mock
+    SubjectRepository subjectRepository;
+
+    @Mock
+    ProfessorRepository professorRepository;
+
+    @Mock
+    GradeRepository gradeRepository;
+
+    @Mock
+    AbsenceRepository absenceRepository;
+
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    SubjectService subjectService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        subjectService = new SubjectService(subjectRepository, professorRepository, gradeRepository, absenceRepository, new OwnershipService(subjectRepository, professorRepository, gradeRepository, absenceRepository), new SubjectSummaryService(subjectSummaryRepository), userRepository);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to get a subject")
+    void getCase1() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        SubjectResponse result = subjectService.get(subjectId, Set.of(), mockUser);
+
+        assertNotNull(result);
+        assertEquals(SubjectResponse.from(mockSubject), result);
+        assertNull(result.grades());
+        verify(subjectRepository, times(1)).findById(subjectId);
+        verifyNoInteractions(gradeRepository, absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be not able to get a nonexistent subject")
+    void getCase2() {
+        UUID nonExistingSubjectId = UUID.randomUUID();
+        when(subjectRepository.findById(nonExistingSubjectId)).thenReturn(Optional.empty());
+
+        assertThrows(SubjectNotFoundException.class, () -> subjectService.get(nonExistingSubjectId, Set.of(), mockUser));
+        verify(subjectRepository, times(1)).findById(nonExistingSubjectId);
+    }
+
+    @Test
+    @DisplayName("should be able not able to get a subject from another user")
+    void getCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+
+        assertThrows(UserUnauthorizedException.class, () -> subjectService.get(subjectId, Set.of(), unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be able to get a subject with its grades expanded")
+    void getCase4() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>());
+        List<GradeResponse> mockGrades = List.of(new GradeResponse(UUID.randomUUID(), "Test Grade", 10.0f, subjectId));
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+        when(gradeRepository.findAllBySubjectIdIn(List.of(subjectId))).thenReturn(mockGrades);
+
+        SubjectResponse result = subjectService.get(subjectId, Set.of(SubjectExpansion.GRADES), mockUser);
+
+        assertEquals(mockGrades, result.grades());
+        assertNull(result.absences());
+        assertNull(result.professors());
+        verify(gradeRepository, times(1)).findAllBySubjectIdIn(List.of(subjectId));
+        verifyNoInteractions(absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to get the stats of a subject")
+    void statsCase1() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+        when(gradeRepository.getStatsBySubjectId(subjectId)).thenReturn(new GradeStatsProjection(3L, 7.5, 5.0f, 10.0f));
+        when(absenceRepository.sumAmountBySubjectId(subjectId)).thenReturn(6L);
+
+        SubjectStatsResponse result = subjectService.stats(subjectId, mockUser);
+
+        assertEquals(new SubjectStatsResponse(subjectId, 3, 7.5, 5.0f, 10.0f, 6), result);
+        verify(subjectRepository, times(1)).findById(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be able to get the stats of a subject without grades")
+    void statsCase2() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+        when(gradeRepository.getStatsBySubjectId(subjectId)).thenReturn(new GradeStatsProjection(0L, null, null, null));
+
+        SubjectStatsResponse result = subjectService.stats(subjectId, mockUser);
+
+        assertEquals(0, result.grade_count());
+        assertNull(result.grade_average());
+        assertEquals(0, result.absence_total());
+    }
+
+    @Test
+    @DisplayName("should be not able to get the stats of a nonexistent subject")
+    void statsCase3() {
+        UUID nonExistingSubjectId = UUID.randomUUID();
+
+        assertThrows(SubjectNotFoundException.class, () -> subjectService.stats(nonExistingSubjectId, mockUser));
+        verifyNoInteractions(gradeRepository, absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be not able to get the stats of a subject from another user")
+    void statsCase4() {
+        UUID subjectId = UUID.randomUUID();
+
+        User anotherUser = new User(UUID.randomUUID(), "Another User", "another@example.com", "password");
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", anotherUser, new ArrayList<>())));
+
+        assertThrows(UserUnauthorizedException.class, () -> subjectService.stats(subjectId, mockUser));
+        verifyNoInteractions(gradeRepository, absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to get the ETag of a subject from its version alone")
+    void getETagCase1() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+
+        String etag = subjectService.getETag(subjectId, Set.of(), mockUser);
+
+        assertEquals(etag, subjectService.getETag(subjectId, Set.of(), mockUser));
+        verifyNoInteractions(professorRepository, gradeRepository, absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to get a new ETag of an expanded subject when its grades change")
+    void getETagCase2() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+        when(gradeRepository.getVersionStampBySubjectId(subjectId))
+                .thenReturn(new VersionStamp(2L, 0L, 3L))
+                .thenReturn(new VersionStamp(2L, 1L, 3L));
+
+        String etag = subjectService.getETag(subjectId, Set.of(SubjectExpansion.GRADES), mockUser);
+
+        assertNotEquals(etag, subjectService.getETag(subjectId, Set.of(SubjectExpansion.GRADES), mockUser));
+        verifyNoInteractions(professorRepository, absenceRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to get the ETag of the subjects list with one aggregate per requested collection")
+    void fetchETagCase1() {
+        when(subjectRepository.getVersionStampByUserId(mockUser.getId())).thenReturn(new VersionStamp(1L, 0L, 3L));
+
+        assertNotNull(subjectService.fetchETag(EnumSet.of(SubjectExpansion.PROFESSORS, SubjectExpansion.ABSENCES), mockUser));
+        verify(professorRepository, times(1)).getVersionStampByUserId(mockUser.getId());
+        verify(absenceRepository, times(1)).getVersionStampBySubjectUserId(mockUser.getId());
+        verifyNoInteractions(gradeRepository);
+        verify(subjectRepository, never()).findPageByUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("should be able to fetch subjects")
+    void fetchCase1() {
+        List<SubjectResponse> mockSubjects = Arrays.asList(new SubjectResponse(UUID.randomUUID(), "Subject 1", "Description 1"), new SubjectResponse(UUID.randomUUID(), "Subject 2", "Description 2"));
+
+        when(subjectRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockSubjects));
+
+        CursorPage<SubjectResponse> result = subjectService.fetch(null, null, Set.of(), mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockSubjects, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findPageByUserId(mockUser.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to fetch empty subjects")
+    void fetchCase2() {
+        List<SubjectResponse> mockSubjects = new ArrayList<>();
+
+        when(subjectRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockSubjects));
+
+        CursorPage<SubjectResponse> result = subjectService.fetch(null, null, Set.of(), mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockSubjects, result.items());
+        assertFalse(result.has_next());
+        verify(subjectRepository, times(1)).findPageByUserId(mockUser.getId(), Pagination.limit(null));
+    }
+
+    @Test
+    @DisplayName("should be able to fetch subjects with their collections expanded")
+    void fetchCase3() {
+        UUID firstSubjectId = UUID.randomUUID();
+        UUID secondSubjectId = UUID.randomUUID();
+        List<UUID> subjectIds = List.of(firstSubjectId, secondSubjectId);
+        List<SubjectResponse> mockSubjects = List.of(new SubjectResponse(firstSubjectId, "Subject 1", "Description 1"), new SubjectResponse(secondSubjectId, "Subject 2", "Description 2"));
+
+        UUID professorId = UUID.randomUUID();
+        GradeResponse mockGrade = new GradeResponse(UUID.randomUUID(), "Test Grade", 10.0f, firstSubjectId);
+        AbsenceResponse mockAbsence = new AbsenceResponse(UUID.randomUUID(), LocalDate.now(), 2, secondSubjectId);
+
+        when(subjectRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(mockSubjects));
+        when(subjectRepository.findProfessorsBySubjectIdIn(subjectIds)).thenReturn(List.of(new SubjectProfessorProjection(secondSubjectId, professorId, "Test Professor", "professor@example.com")));
+        when(gradeRepository.findAllBySubjectIdIn(subjectIds)).thenReturn(List.of(mockGrade));
+        when(absenceRepository.findAllBySubjectIdIn(subjectIds)).thenReturn(List.of(mockAbsence));
+
+        CursorPage<SubjectResponse> result = subjectService.fetch(null, null, EnumSet.allOf(SubjectExpansion.class), mockUser);
+
+        SubjectResponse first = result.items().get(0);
+        SubjectResponse second = result.items().get(1);
+
+        assertEquals(List.of(), first.professors());
+        assertEquals(List.of(mockGrade), first.grades());
+        assertEquals(List.of(), first.absences());
+        assertEquals(List.of(new ProfessorResponse(professorId, "Test Professor", "professor@example.com")), second.professors());
+        assertEquals(List.of(), second.grades());
+        assertEquals(List.of(mockAbsence), second.absences());
+        verify(subjectRepository, times(1)).findProfessorsBySubjectIdIn(subjectIds);
+        verify(gradeRepository, times(1)).findAllBySubjectIdIn(subjectIds);
+        verify(absenceRepository, times(1)).findAllBySubjectIdIn(subjectIds);
+    }
+
+    @Test
+    @DisplayName("should be able to create a subject")
+    void createCase1() {
+        List<UUID> professorsIds = new ArrayList<>();
+        List<Professor> mockProfessors = new ArrayList<>();
+
+        when(professorRepository.findAllByIdInAndUserId(professorsIds, mockUser.getId())).thenReturn(mockProfessors);
+
+        Subject mockSubject = new Subject("Subject 1", "Description 1", mockUser);
+        mockSubject.setProfessors(mockProfessors);
+
+        when(subjectRepository.save(any(Subject.class))).thenReturn(mockSubject);
+
+        CreateSubjectRequest mockRequest = new CreateSubjectRequest("Subject 1", "Description 1", professorsIds);
+
+        Subject result = subjectService.create(mockRequest, mockUser);
+
+        assertNotNull(result);
+        assertEquals(mockSubject, result);
+        verify(professorRepository, times(1)).findAllByIdInAndUserId(professorsIds, mockUser.getId());
+        verify(subjectRepository, times(1)).save(any(Subject.class));
+        verify(userRepository, times(1)).incrementRevision(mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be able to update the name and description of a subject")
+    void updateCase1() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.of("New Subject Name"), Optional.of("New Subject Description"));
+        Subject updatedMockSubject = new Subject(subjectId, "New Subject Name", "New Subject Description", mockUser, new ArrayList<>());
+
+        when(subjectRepository.save(mockSubject)).thenReturn(updatedMockSubject);
+
+        Subject result = subjectService.update(subjectId, mockRequest, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(updatedMockSubject, result);
+        verify(subjectRepository, times(1)).findById(subjectId);
+        verify(subjectRepository, times(1)).save(mockSubject);
+    }
+
+    @Test
+    @DisplayName("should be able to update the name of a subject")
+    void updateCase2() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.of("New Subject Name"), Optional.empty());
+        Subject updatedMockSubject = new Subject(subjectId, "New Subject Name", mockSubject.getDescription(), mockUser, new ArrayList<>());
+
+        when(subjectRepository.save(mockSubject)).thenReturn(updatedMockSubject);
+
+        Subject result = subjectService.update(subjectId, mockRequest, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(updatedMockSubject, result);
+        verify(subjectRepository, times(1)).findById(subjectId);
+        verify(subjectRepository, times(1)).save(mockSubject);
+    }
+
+    @Test
+    @DisplayName("should be able to update the description of a subject")
+    void updateCase3() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.empty(), Optional.of("New Subject Description"));
+        Subject updatedMockSubject = new Subject(subjectId, mockSubject.getName(), "New Subject Description", mockUser, new ArrayList<>());
+
+        when(subjectRepository.save(mockSubject)).thenReturn(updatedMockSubject);
+
+        Subject result = subjectService.update(subjectId, mockRequest, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(updatedMockSubject, result);
+        verify(subjectRepository, times(1)).findById(subjectId);
+        verify(subjectRepository, times(1)).save(mockSubject);
+    }
+
+    @Test
+    @DisplayName("should be not able to update a nonexistent subject")
+    void updateCase4() {
+        UUID nonExistingSubjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(nonExistingSubjectId)).thenReturn(Optional.empty());
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.empty(), Optional.of("New Subject Description"));
+
+        assertThrows(SubjectNotFoundException.class, () -> subjectService.update(nonExistingSubjectId, mockRequest, null, mockUser));
+        verify(subjectRepository, times(1)).findById(nonExistingSubjectId);
+    }
+
+    @Test
+    @DisplayName("should be not able to update a subject from another user")
+    void updateCase5() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.empty(), Optional.of("New Subject Description"));
+
+        assertThrows(UserUnauthorizedException.class, () -> subjectService.update(subjectId, mockRequest, null, unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be not able to update a subject when If-Match holds an outdated ETag")
+    void updateCase6() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        UpdateSubjectRequest mockRequest = new UpdateSubjectRequest(Optional.of("New Subject Name"), Optional.empty());
+
+        assertThrows(StaleVersionException.class, () -> subjectService.update(subjectId, mockRequest, ETags.of(subjectId, 1L), mockUser));
+        assertEquals("Subject 1", mockSubject.getName());
+        verify(subjectRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should be able to update the professors of a subject")
+    void updateProfessorsCase1() {
+        UUID subjectId = UUID.randomUUID();
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        List<UUID> professorsIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<Professor> mockProfessors = List.of(new Professor("Professor 1", "professor@test.com", mockUser), new Professor("Professor 2", "professor2@test.com", mockUser));
+
+        when(professorRepository.findAllByIdInAndUserId(professorsIds, mockUser.getId())).thenReturn(mockProfessors);
+
+        UpdateSubjectProfessorsRequest mockRequest = new UpdateSubjectProfessorsRequest(professorsIds);
+        Subject updatedMockSubject = new Subject(subjectId, mockSubject.getName(), mockSubject.getDescription(), mockUser, mockProfessors);
+
+        when(subjectRepository.save(mockSubject)).thenReturn(updatedMockSubject);
+
+        Subject result = subjectService.updateProfessors(subjectId, mockRequest, null, mockUser);
+
+        assertNotNull(result);
+        assertEquals(updatedMockSubject, result);
+        verify(subjectRepository, times(1)).findById(subjectId);
+        verify(professorRepository, times(1)).findAllByIdInAndUserId(professorsIds, mockUser.getId());
+        verify(subjectRepository, times(1)).save(mockSubject);
+    }
+
+    @Test
+    @DisplayName("should be not able to update the professors of a nonexistent subject")
+    void updateProfessorsCase2() {
+        UUID nonExistingSubjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(nonExistingSubjectId)).thenReturn(Optional.empty());
+
+        List<UUID> professorsIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        UpdateSubjectProfessorsRequest mockRequest = new UpdateSubjectProfessorsRequest(professorsIds);
+
+        assertThrows(SubjectNotFoundException.class, () -> subjectService.updateProfessors(nonExistingSubjectId, mockRequest, null, mockUser));
+        verify(subjectRepository, times(1)).findById(nonExistingSubjectId);
+    }
+
+    @Test
+    @DisplayName("should be not able to update the professors of a subject from another user")
+    void updateProfessorsCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+
+        List<UUID> professorsIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        UpdateSubjectProfessorsRequest mockRequest = new UpdateSubjectProfessorsRequest(professorsIds);
+
+        assertThrows(UserUnauthorizedException.class, () -> subjectService.updateProfessors(subjectId, mockRequest, null, unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be able to delete a subject")
+    void deleteCase1() {
+        UUID subjectId = UUID.randomUUID();
+
+        Subject mockSubject = new Subject(subjectId, "Subject 1", "Description 1", mockUser, new ArrayList<>());
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(mockSubject));
+
+        subjectService.delete(subjectId, mockUser);
+        verify(subjectRepository, times(1)).delete(mockSubject);
+        verify(userRepository, times(1)).incrementRevision(mockUser.getId());
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a nonexistent subject")
+    void deleteCase2() {
+        UUID nonExistingSubjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(nonExistingSubjectId)).thenReturn(Optional.empty());
+
+        assertThrows(SubjectNotFoundException.class, () -> subjectService.delete(nonExistingSubjectId, mockUser));
+        verify(subjectRepository, times(1)).findById(nonExistingSubjectId);
+    }
+
+    @Test
+    @DisplayName("should be not able to delete a subject from another user")
+    void deleteCase3() {
+        User unauthorizedMockUser = new User(UUID.randomUUID(), "Unauthorized User", "unauthorized@email.com", "password");
+
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectRepository.findById(subjectId)).thenReturn(Optional.of(new Subject(subjectId, "Test Subject", "Description", mockUser, new ArrayList<>())));
+
+        assertThrows(UserUnauthorizedException.class, () -> subjectService.delete(subjectId, unauthorizedMockUser));
+        verify(subjectRepository, times(1)).findById(subjectId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.davsilvam.services;
+
+import com.davsilvam.domain.pagination.Pagination;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryProjection;
+import com.davsilvam.domain.subject.dtos.SubjectSummaryResponse;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.repositories.SubjectSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Subject Summary Service Tests")
+class SubjectSummaryServiceTest {
+    @Mock
+    SubjectSummaryRepository subjectSummaryRepository;
+
+    SubjectSummaryService subjectSummaryService;
+
+    AutoCloseable closeable;
+
+    User mockUser;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        subjectSummaryService = new SubjectSummaryService(subjectSummaryRepository);
+        mockUser = new User(UUID.randomUUID(), "Test User", "test@example.com", "password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Test
+    @DisplayName("should be able to fetch the summaries of the user subjects")
+    void fetchCase1() {
+        Instant updatedAt = Instant.now();
+        SubjectSummaryProjection graded = new SubjectSummaryProjection(UUID.randomUUID(), "Graded", "Description", 4L, 30.0, 3L, updatedAt);
+        SubjectSummaryProjection missing = new SubjectSummaryProjection(UUID.randomUUID(), "Missing", "Description", null, null, null, null);
+
+        when(subjectSummaryRepository.findPageByUserId(mockUser.getId(), Pagination.limit(null))).thenReturn(new SliceImpl<>(List.of(graded, missing)));
+
+        CursorPage<SubjectSummaryResponse> result = subjectSummaryService.fetch(null, null, mockUser);
+
+        assertEquals(new SubjectSummaryResponse(graded.subjectId(), "Graded", 4, 7.5, 3, updatedAt), result.items().get(0));
+        assertEquals(new SubjectSummaryResponse(missing.subjectId(), "Missing", 0, null, 0, null), result.items().get(1));
+        assertFalse(result.has_next());
+    }
+
+    @Test
+    @DisplayName("should be able to record a grade change as an in-place increment")
+    void recordCase1() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectSummaryRepository.increment(eq(subjectId), eq(1L), eq(8.0), eq(0L), any())).thenReturn(1);
+
+        subjectSummaryService.recordGrades(subjectId, 1, 8.0);
+
+        verify(subjectSummaryRepository, never()).insertMissing(any());
+    }
+
+    @Test
+    @DisplayName("should be able to recompute the summary of a subject without one")
+    void recordCase2() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectSummaryRepository.insertMissing(subjectId)).thenReturn(1);
+
+        subjectSummaryService.recordAbsences(subjectId, 2);
+
+        verify(subjectSummaryRepository, times(1)).increment(eq(subjectId), eq(0L), eq(0.0), eq(2L), any());
+        verify(subjectSummaryRepository, times(1)).insertMissing(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be able to increment the summary another transaction created first")
+    void recordCase4() {
+        UUID subjectId = UUID.randomUUID();
+
+        when(subjectSummaryRepository.increment(eq(subjectId), eq(0L), eq(0.0), eq(2L), any())).thenReturn(0, 1);
+        when(subjectSummaryRepository.insertMissing(subjectId)).thenReturn(0);
+
+        subjectSummaryService.recordAbsences(subjectId, 2);
+
+        verify(subjectSummaryRepository, times(2)).increment(eq(subjectId), eq(0L), eq(0.0), eq(2L), any());
+        verify(subjectSummaryRepository, times(1)).insertMissing(subjectId);
+    }
+
+    @Test
+    @DisplayName("should be able to skip recording a change that does not affect the totals")
+    void recordCase3() {
+        subjectSummaryService.recordGrades(UUID.randomUUID(), 0, 0);
+
+        verifyNoInteractions(subjectSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("should be able to rebuild the missing and drifted summaries")
+    void rebuildCase1() {
+        List<UUID> drifted = Stream.generate(UUID::randomUUID).limit(SubjectSummaryService.REPAIR_CHUNK_SIZE + 3).sorted(SubjectSummaryService.LOCK_ORDER).toList();
+
+        when(subjectSummaryRepository.insertAllMissing()).thenReturn(2);
+        when(subjectSummaryRepository.findDriftedSubjectIds()).thenReturn(drifted.stream().map(UUID::toString).toList());
+        when(subjectSummaryRepository.lockAndRepair(anyList())).thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+
+        assertEquals(2 + drifted.size(), subjectSummaryService.rebuild());
+        verify(subjectSummaryRepository).lockAndRepair(drifted.subList(0, SubjectSummaryService.REPAIR_CHUNK_SIZE));
+        verify(subjectSummaryRepository).lockAndRepair(drifted.subList(SubjectSummaryService.REPAIR_CHUNK_SIZE, drifted.size()));
+    }
+}
@@ -0,0 +1,103 @@
+-- Measures the list endpoint queries against 1M grades before and after the lookup indexes.
+-- Runs in a scratch "benchmark" schema, so it can be pointed at any PostgreSQL 13+ database:
+--   psql "$DATABASE_URL" -f benchmarks/sql/indexes.sql > indexes.out
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS benchmark CASCADE;
+CREATE SCHEMA benchmark;
+SET search_path TO benchmark;
+
+CREATE TABLE users (
+    id            UUID PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) UNIQUE NOT NULL,
+    password_hash VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE subjects (
+    id          UUID PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    user_id     UUID NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE professors (
+    id      UUID PRIMARY KEY,
+    name    VARCHAR(255) NOT NULL,
+    email   VARCHAR(255) UNIQUE NOT NULL,
+    user_id UUID NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE subjects_professors (
+    subject_id   UUID REFERENCES subjects (id),
+    professor_id UUID REFERENCES professors (id),
+    PRIMARY KEY (subject_id, professor_id)
+);
+
+CREATE TABLE grades (
+    id         UUID PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    value      DOUBLE PRECISION NOT NULL,
+    subject_id UUID NOT NULL REFERENCES subjects (id)
+);
+
+CREATE TABLE absences (
+    id         UUID PRIMARY KEY,
+    date       DATE NOT NULL,
+    amount     SMALLINT NOT NULL,
+    subject_id UUID NOT NULL REFERENCES subjects (id)
+);
+
+-- 10k users, 5 subjects and 4 professors each, 20 grades and 5 absences per subject.
+INSERT INTO users (id, name, email, password_hash)
+SELECT gen_random_uuid(), 'User ' || n, 'user' || n || '@example.com', 'hash'
+FROM generate_series(1, 10000) AS n;
+
+INSERT INTO subjects (id, name, description, user_id)
+SELECT gen_random_uuid(), 'Subject ' || n, 'Description', u.id
+FROM users u, generate_series(1, 5) AS n;
+
+INSERT INTO professors (id, name, email, user_id)
+SELECT gen_random_uuid(), 'Professor ' || n, u.email || '.professor' || n, u.id
+FROM users u, generate_series(1, 4) AS n;
+
+INSERT INTO subjects_professors (subject_id, professor_id)
+SELECT s.id, p.id
+FROM subjects s
+JOIN LATERAL (SELECT id FROM professors WHERE user_id = s.user_id ORDER BY id LIMIT 2) p ON true;
+
+INSERT INTO grades (id, name, value, subject_id)
+SELECT gen_random_uuid(), 'Grade ' || n, random() * 10, s.id
+FROM subjects s, generate_series(1, 20) AS n;
+
+INSERT INTO absences (id, date, amount, subject_id)
+SELECT gen_random_uuid(), current_date - (random() * 180)::int, 2, s.id
+FROM subjects s, generate_series(1, 5) AS n;
+
+ANALYZE;
+
+SELECT u.id AS user_id, s.id AS subject_id, p.id AS professor_id
+FROM users u
+JOIN subjects s ON s.user_id = u.id
+JOIN professors p ON p.user_id = u.id
+ORDER BY u.email
+LIMIT 1 \gset
+
+\echo '==================== without indexes ===================='
+\i benchmarks/sql/list-queries.sql
+
+CREATE INDEX subjects_user_id_id_idx ON subjects (user_id, id);
+CREATE INDEX professors_user_id_id_idx ON professors (user_id, id);
+CREATE INDEX subjects_professors_professor_id_idx ON subjects_professors (professor_id);
+CREATE INDEX grades_subject_id_id_idx ON grades (subject_id, id);
+CREATE INDEX absences_subject_id_id_idx ON absences (subject_id, id);
+CREATE INDEX absences_subject_id_date_idx ON absences (subject_id, date);
+
+ANALYZE;
+
+\echo '==================== with indexes ===================='
+\i benchmarks/sql/list-queries.sql
+
+DROP SCHEMA benchmark CASCADE;
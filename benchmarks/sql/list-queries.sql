@@ -0,0 +1,32 @@
+-- The statements behind the list endpoints, as generated for the JPQL in the repositories.
+-- Included twice by indexes.sql; expects :user_id, :subject_id and :professor_id to be set.
+
+\echo '--- GET /subjects'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, description FROM subjects WHERE user_id = :'user_id' ORDER BY id LIMIT 21;
+
+\echo '--- GET /professors'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, email FROM professors WHERE user_id = :'user_id' ORDER BY id LIMIT 21;
+
+\echo '--- GET /grades/subject/{subjectId}'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, value, subject_id FROM grades WHERE subject_id = :'subject_id' ORDER BY id LIMIT 21;
+
+\echo '--- GET /absences/subject/{subjectId}'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, date, amount, subject_id FROM absences WHERE subject_id = :'subject_id' ORDER BY id LIMIT 21;
+
+\echo '--- GET /subjects?expand=grades'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, value, subject_id FROM grades
+WHERE subject_id IN (SELECT id FROM subjects WHERE user_id = :'user_id') ORDER BY id;
+
+\echo '--- absences of a subject in a date range'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, date, amount FROM absences
+WHERE subject_id = :'subject_id' AND date BETWEEN current_date - 30 AND current_date;
+
+\echo '--- DELETE /professors/{id} (subjects of a professor)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT subject_id FROM subjects_professors WHERE professor_id = :'professor_id';
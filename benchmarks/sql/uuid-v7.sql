@@ -0,0 +1,63 @@
+-- Insert throughput of random (v4) against time-ordered (v7) primary keys on a multi-million row grades table.
+-- Rows go in as 50 batches of 100k, the way a growing table receives them, and the time of every 10th batch
+-- is reported. With v4 keys each batch touches pages all over the primary key index, so batches get slower
+-- once the index no longer fits in shared_buffers; with v7 keys they keep appending to the rightmost page.
+--   psql "$DATABASE_URL" -f benchmarks/sql/uuid-v7.sql > uuid-v7.out
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS benchmark CASCADE;
+CREATE SCHEMA benchmark;
+SET search_path TO benchmark;
+
+-- Same layout as UuidV7Generator: 48 bit millisecond timestamp, version 7, random remainder.
+CREATE FUNCTION uuid_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                placing substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE grades_v4 (
+    id         UUID PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    value      DOUBLE PRECISION NOT NULL,
+    subject_id UUID NOT NULL
+);
+
+CREATE TABLE grades_v7 (LIKE grades_v4 INCLUDING ALL);
+
+CREATE PROCEDURE load(target TEXT, generator TEXT) AS $$
+DECLARE
+    started TIMESTAMPTZ;
+BEGIN
+    FOR batch IN 1..50 LOOP
+        started := clock_timestamp();
+
+        EXECUTE format(
+            'INSERT INTO %I (id, name, value, subject_id) SELECT %s(), ''Grade'', random() * 10, gen_random_uuid() FROM generate_series(1, 100000)',
+            target, generator);
+        COMMIT;
+
+        IF batch % 10 = 0 THEN
+            RAISE NOTICE '% batch % (% rows): % ms', target, batch, batch * 100000,
+                round(extract(epoch FROM clock_timestamp() - started) * 1000);
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+CALL load('grades_v4', 'gen_random_uuid');
+CALL load('grades_v7', 'uuid_v7');
+
+SELECT relname,
+       pg_size_pretty(pg_relation_size(relid)) AS table_size,
+       pg_size_pretty(pg_relation_size(indexrelid)) AS primary_key_size
+FROM pg_stat_user_indexes
+WHERE schemaname = 'benchmark';
+
+DROP SCHEMA benchmark CASCADE;
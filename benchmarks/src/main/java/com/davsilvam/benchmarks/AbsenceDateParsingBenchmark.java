@@ -0,0 +1,68 @@
+package com.davsilvam.benchmarks;
+
+import com.davsilvam.domain.absence.AbsenceDates;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a dd/MM/yyyy absence date the way the services used to (a new {@link SimpleDateFormat} per call), with
+ * {@link LocalDate#parse} on the shared {@link AbsenceDates#FORMATTER} and with {@link AbsenceDates#parse(CharSequence)},
+ * which reads the same formatter without resolving, for valid and invalid input. Invalid input is where the
+ * exception-based parsers pay for building a stack trace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbsenceDateParsingBenchmark {
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({"15/03/2024", "31/02/2024", "not a date"})
+        String value;
+    }
+
+    @Benchmark
+    public Date simpleDateFormat(Input input) {
+        try {
+            return new SimpleDateFormat(AbsenceDates.PATTERN).parse(input.value);
+        } catch (ParseException exception) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public LocalDate dateTimeFormatter(Input input) {
+        try {
+            return LocalDate.parse(input.value, AbsenceDates.FORMATTER);
+        } catch (DateTimeParseException exception) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public LocalDate absenceDates(Input input) {
+        return AbsenceDates.parse(input.value);
+    }
+
+    @Benchmark
+    public Date todayWithDate() {
+        return new Date();
+    }
+
+    @Benchmark
+    public LocalDate todayWithLocalDate() {
+        return LocalDate.now();
+    }
+
+    @Benchmark
+    public LocalDate todayWithAbsenceDates() {
+        return AbsenceDates.today();
+    }
+}
@@ -0,0 +1,67 @@
+package com.davsilvam.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, matching benchmarks by name and parameters. A change is
+ * only reported as faster or slower when the scores differ by more than both error margins combined.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.davsilvam.benchmarks.BaselineComparison baseline.json current.json}
+ */
+public class BaselineComparison {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json>");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        System.out.printf("%-90s %14s %14s %8s%n", "Benchmark", "Baseline", "Current", "Change");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode after = entry.getValue().get("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey()) ? baseline.get(entry.getKey()).get("primaryMetric") : null;
+
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %8s%n", entry.getKey(), "-", after.get("score").asDouble(), "new");
+                continue;
+            }
+
+            double change = (after.get("score").asDouble() - before.get("score").asDouble()) / before.get("score").asDouble();
+            double margin = error(before) + error(after);
+            boolean significant = Math.abs(after.get("score").asDouble() - before.get("score").asDouble()) > margin;
+            // Lower is better for time per operation, higher for throughput
+            boolean lowerIsBetter = !entry.getValue().get("mode").asText().equals("thrpt");
+            String verdict = !significant ? "" : (change < 0) == lowerIsBetter ? "faster" : "slower";
+
+            System.out.printf("%-90s %14.3f %14.3f %+7.1f%% %s %s%n", entry.getKey(), before.get("score").asDouble(),
+                    after.get("score").asDouble(), change * 100, after.get("scoreUnit").asText(), verdict);
+        }
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+            result.path("params").fields().forEachRemaining(param -> key.append(" ").append(param.getKey()).append("=").append(param.getValue().asText()));
+            results.put(key.toString(), result);
+        }
+
+        return results;
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.get("scoreError").asDouble();
+
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
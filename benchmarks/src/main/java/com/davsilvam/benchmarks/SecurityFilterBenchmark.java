@@ -0,0 +1,102 @@
+package com.davsilvam.benchmarks;
+
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.security.PrincipalCache;
+import com.davsilvam.infra.security.SecurityFilter;
+import com.davsilvam.infra.security.TokenService;
+import com.davsilvam.repositories.UserRepository;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The work {@link SecurityFilter} adds to every request: an anonymous request, an authenticated one answered from the
+ * token and principal caches, and one that has to verify the token signature. The user lookup is stubbed, since a
+ * principal cache miss is a database query. Each call clears the security context afterwards, like the rest of the
+ * filter chain would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityFilterBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    SecurityFilter filter;
+
+    SecurityFilter uncachedFilter;
+
+    MockHttpServletRequest anonymous;
+
+    MockHttpServletRequest authenticated;
+
+    MockHttpServletRequest[] alternating;
+
+    MockHttpServletResponse response;
+
+    int next;
+
+    @Setup
+    public void setUp() {
+        TokenService tokenService = new TokenService(SECRET, 10_000);
+        User user = new User(UUID.randomUUID(), "Benchmark", "benchmark@example.com", "password");
+        User other = new User(UUID.randomUUID(), "Other", "other@example.com", "password");
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> method.getName().equals("findByEmail") ? (user.getEmail().equals(args[0]) ? user : other) : null);
+        PrincipalCache principalCache = new PrincipalCache(users, Duration.ofHours(1), 10_000);
+
+        this.filter = filter(tokenService, principalCache);
+        this.uncachedFilter = filter(new TokenService(SECRET, 1), principalCache);
+        this.anonymous = new MockHttpServletRequest("GET", "/subjects");
+        this.authenticated = authenticated(tokenService.generateToken(user));
+        this.alternating = new MockHttpServletRequest[]{this.authenticated, authenticated(tokenService.generateToken(other))};
+        this.response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void anonymousRequest() throws Exception {
+        this.filter.doFilter(this.anonymous, this.response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws Exception {
+        this.filter.doFilter(this.authenticated, this.response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void authenticatedRequestWithoutTokenCache() throws Exception {
+        this.next ^= 1;
+        this.uncachedFilter.doFilter(this.alternating[this.next], this.response, CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    private static SecurityFilter filter(TokenService tokenService, PrincipalCache principalCache) {
+        SecurityFilter filter = new SecurityFilter();
+        ReflectionTestUtils.setField(filter, "tokenService", tokenService);
+        ReflectionTestUtils.setField(filter, "principalCache", principalCache);
+
+        return filter;
+    }
+
+    private static MockHttpServletRequest authenticated(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/subjects");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        return request;
+    }
+}
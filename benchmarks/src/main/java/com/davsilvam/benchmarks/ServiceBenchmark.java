@@ -0,0 +1,106 @@
+package com.davsilvam.benchmarks;
+
+import com.davsilvam.benchmarks.load.EmbeddedApplication;
+import com.davsilvam.domain.absence.Absence;
+import com.davsilvam.domain.absence.dtos.CreateAbsenceRequest;
+import com.davsilvam.domain.absence.exceptions.InvalidAbsenceDateException;
+import com.davsilvam.domain.grade.Grade;
+import com.davsilvam.domain.grade.dtos.CreateGradeRequest;
+import com.davsilvam.domain.subject.Subject;
+import com.davsilvam.domain.subject.dtos.CreateSubjectRequest;
+import com.davsilvam.domain.user.User;
+import com.davsilvam.domain.user.exceptions.UserUnauthorizedException;
+import com.davsilvam.repositories.UserRepository;
+import com.davsilvam.services.AbsenceService;
+import com.davsilvam.services.GradeService;
+import com.davsilvam.services.SubjectService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service calls through the real Spring, Hibernate and H2 stack: the ownership check behind {@code GET /grades/{id}}
+ * for a grade of the user and for someone else's (the miss that runs the extra existence query), and
+ * {@code AbsenceService.create} with a valid date and with one rejected by the date parsing. The warmup is long because
+ * the whole application stack has to be compiled before the scores settle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+    EmbeddedApplication application;
+
+    GradeService gradeService;
+
+    AbsenceService absenceService;
+
+    User user;
+
+    UUID ownedGradeId;
+
+    UUID foreignGradeId;
+
+    CreateAbsenceRequest validAbsence;
+
+    CreateAbsenceRequest invalidAbsence;
+
+    @Setup
+    public void setUp() {
+        this.application = EmbeddedApplication.start("service-benchmark", Map.of("spring.main.web-application-type", "none"), new String[0]);
+        this.gradeService = this.application.bean(GradeService.class);
+        this.absenceService = this.application.bean(AbsenceService.class);
+
+        UserRepository userRepository = this.application.bean(UserRepository.class);
+        SubjectService subjectService = this.application.bean(SubjectService.class);
+
+        this.user = userRepository.save(new User("Benchmark", "benchmark@example.com", "password"));
+        User other = userRepository.save(new User("Other", "other@example.com", "password"));
+
+        Subject subject = subjectService.create(new CreateSubjectRequest("Subject", "Description", List.of()), this.user);
+        Subject foreign = subjectService.create(new CreateSubjectRequest("Foreign", "Description", List.of()), other);
+
+        this.ownedGradeId = this.gradeService.create(new CreateGradeRequest("Grade", 8.0f, subject.getId()), this.user).getId();
+        this.foreignGradeId = this.gradeService.create(new CreateGradeRequest("Grade", 8.0f, foreign.getId()), other).getId();
+        this.validAbsence = new CreateAbsenceRequest("15/03/2024", 1, subject.getId());
+        this.invalidAbsence = new CreateAbsenceRequest("31/02/2024", 1, subject.getId());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.application.close();
+    }
+
+    @Benchmark
+    public Grade getOwnedGrade() {
+        return this.gradeService.get(this.ownedGradeId, this.user);
+    }
+
+    @Benchmark
+    public Object getForeignGrade() {
+        try {
+            return this.gradeService.get(this.foreignGradeId, this.user);
+        } catch (UserUnauthorizedException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Absence createAbsence() {
+        return this.absenceService.create(this.validAbsence, this.user);
+    }
+
+    @Benchmark
+    public Object createAbsenceWithInvalidDate() {
+        try {
+            return this.absenceService.create(this.invalidAbsence, this.user);
+        } catch (InvalidAbsenceDateException exception) {
+            return exception;
+        }
+    }
+}
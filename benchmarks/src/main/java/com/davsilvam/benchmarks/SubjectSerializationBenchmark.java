@@ -0,0 +1,79 @@
+package com.davsilvam.benchmarks;
+
+import com.davsilvam.domain.absence.dtos.AbsenceResponse;
+import com.davsilvam.domain.grade.dtos.GradeResponse;
+import com.davsilvam.domain.pagination.dtos.CursorPage;
+import com.davsilvam.domain.professor.dtos.ProfessorResponse;
+import com.davsilvam.domain.subject.dtos.SubjectResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Writing the JSON of {@code GET /subjects/{id}?expand=professors,grades,absences} for a growing number of grades and
+ * absences, and of a page of {@code GET /subjects?expand=professors}, with an {@link ObjectMapper} built the way
+ * Spring Boot builds the application's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubjectSerializationBenchmark {
+    @State(Scope.Benchmark)
+    public static class Expanded {
+        @Param({"10", "100", "1000"})
+        int children;
+
+        SubjectResponse subject;
+
+        @Setup
+        public void setUp() {
+            UUID subjectId = UUID.randomUUID();
+            List<GradeResponse> grades = IntStream.range(0, this.children)
+                    .mapToObj(i -> new GradeResponse(UUID.randomUUID(), "Grade " + i, i % 10 + 0.5f, subjectId))
+                    .toList();
+            List<AbsenceResponse> absences = IntStream.range(0, this.children)
+                    .mapToObj(i -> new AbsenceResponse(UUID.randomUUID(), LocalDate.of(2024, 1, 1).plusDays(i % 365), 2, subjectId))
+                    .toList();
+
+            this.subject = new SubjectResponse(subjectId, "Subject", "Description", professors(3), grades, absences);
+        }
+    }
+
+    ObjectMapper mapper;
+
+    CursorPage<SubjectResponse> subjectPage;
+
+    @Setup
+    public void setUp() {
+        this.mapper = Jackson2ObjectMapperBuilder.json().build();
+        this.subjectPage = CursorPage.of(IntStream.range(0, 50)
+                .mapToObj(i -> new SubjectResponse(UUID.randomUUID(), "Subject " + i, "Description", professors(3), null, null))
+                .toList(), true, SubjectResponse::id);
+    }
+
+    @Benchmark
+    public byte[] expandedSubject(Expanded expanded) throws JsonProcessingException {
+        return this.mapper.writeValueAsBytes(expanded.subject);
+    }
+
+    @Benchmark
+    public byte[] subjectPage() throws JsonProcessingException {
+        return this.mapper.writeValueAsBytes(this.subjectPage);
+    }
+
+    private static List<ProfessorResponse> professors(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ProfessorResponse(UUID.randomUUID(), "Professor " + i, "professor" + i + "@example.com"))
+                .toList();
+    }
+}
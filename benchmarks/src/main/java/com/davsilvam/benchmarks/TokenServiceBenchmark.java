@@ -0,0 +1,68 @@
+package com.davsilvam.benchmarks;
+
+import com.davsilvam.domain.user.User;
+import com.davsilvam.infra.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing a token at login, and validating one on every authenticated request: from the verified-token cache, with
+ * the full HMAC verification (a one-entry cache alternating between two tokens always misses) and for a tampered
+ * token, which is never cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    TokenService tokenService;
+
+    TokenService uncachedTokenService;
+
+    User user;
+
+    String[] tokens;
+
+    String tampered;
+
+    int next;
+
+    @Setup
+    public void setUp() {
+        this.tokenService = new TokenService(SECRET, 10_000);
+        this.uncachedTokenService = new TokenService(SECRET, 1);
+        this.user = new User(UUID.randomUUID(), "Benchmark", "benchmark@example.com", "password");
+        this.tokens = new String[]{
+                this.tokenService.generateToken(this.user),
+                this.tokenService.generateToken(new User(UUID.randomUUID(), "Other", "other@example.com", "password"))
+        };
+        this.tampered = this.tokens[0].substring(0, this.tokens[0].length() - 2) + "xx";
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return this.tokenService.generateToken(this.user);
+    }
+
+    @Benchmark
+    public String validateCachedToken() {
+        return this.tokenService.validateToken(this.tokens[0]);
+    }
+
+    @Benchmark
+    public String validateUncachedToken() {
+        this.next ^= 1;
+        return this.uncachedTokenService.validateToken(this.tokens[this.next]);
+    }
+
+    @Benchmark
+    public String validateTamperedToken() {
+        return this.tokenService.validateToken(this.tampered);
+    }
+}
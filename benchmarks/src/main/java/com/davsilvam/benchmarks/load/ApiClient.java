@@ -0,0 +1,88 @@
+package com.davsilvam.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * A thin JSON client over the REST API, shared by every simulated client of a run.
+ */
+final class ApiClient {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final URI baseUri;
+
+    ApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    String register(String name, String email, String password) {
+        this.send("POST", "auth/register", null, Map.of("name", name, "email", email, "password", password));
+
+        return this.login(email, password);
+    }
+
+    String login(String email, String password) {
+        return this.send("POST", "auth/login", null, Map.of("email", email, "password", password)).get("token").asText();
+    }
+
+    JsonNode send(String method, String path, String token, Object body) {
+        HttpResponse<String> response = this.exchange(method, path, token, body);
+
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " /" + path + " answered " + response.statusCode() + ": " + response.body());
+        }
+
+        try {
+            return response.body().isEmpty() ? MAPPER.nullNode() : MAPPER.readTree(response.body());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Sends a request and returns its status code, without reading the body as JSON. Used on the measured path.
+     */
+    int status(String method, String path, String token, Object body) {
+        return this.exchange(method, path, token, body).statusCode();
+    }
+
+    private HttpResponse<String> exchange(String method, String path, String token, Object body) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(this.baseUri.resolve(path)).timeout(Duration.ofSeconds(60));
+
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+
+            if (body == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json");
+                request.method(method, HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+            }
+
+            return this.http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.davsilvam.benchmarks.load;
+
+import com.davsilvam.infra.persistence.UuidV7Generator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeds the application tables with a synthetic, reproducible academic dataset through JDBC batches, committing every
+ * {@link #USERS_PER_TRANSACTION} users. Every user logs in with {@link #PASSWORD}, and the subject summaries are
+ * written with their final totals, as the API would have left them.
+ */
+public final class DatasetGenerator {
+    public static final String PASSWORD = "password";
+
+    private static final int USERS_PER_TRANSACTION = 100;
+
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * How much data each user owns. Professors are spread over the subjects of their user.
+     */
+    public record Scale(int users, int subjectsPerUser, int professorsPerUser, int professorsPerSubject, int gradesPerSubject, int absencesPerSubject) {
+        public static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("users", 1000),
+                    Integer.getInteger("subjects", 20),
+                    Integer.getInteger("professors", 10),
+                    Integer.getInteger("professorsPerSubject", 2),
+                    Integer.getInteger("grades", 10),
+                    Integer.getInteger("absences", 10)
+            );
+        }
+
+        public long rows() {
+            long subjects = (long) this.users * this.subjectsPerUser;
+
+            return this.users + (long) this.users * this.professorsPerUser
+                    + subjects * (2 + Math.min(this.professorsPerSubject, this.professorsPerUser) + this.gradesPerSubject + this.absencesPerSubject);
+        }
+    }
+
+    private DatasetGenerator() {
+    }
+
+    public static String email(int user) {
+        return "user" + user + "@load.test";
+    }
+
+    /**
+     * Inserts the dataset and returns how many rows were written.
+     */
+    public static long generate(DataSource dataSource, Scale scale, long seed) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        OffsetDateTime now = OffsetDateTime.now();
+        LocalDate today = LocalDate.now();
+        long rows = 0;
+
+        try (Connection connection = dataSource.getConnection();
+             Batch users = new Batch(connection, "INSERT INTO users (id, name, email, password_hash) VALUES (?, ?, ?, ?)");
+             Batch professors = new Batch(connection, "INSERT INTO professors (id, name, email, user_id) VALUES (?, ?, ?, ?)");
+             Batch subjects = new Batch(connection, "INSERT INTO subjects (id, name, description, user_id) VALUES (?, ?, ?, ?)");
+             Batch subjectsProfessors = new Batch(connection, "INSERT INTO subjects_professors (subject_id, professor_id) VALUES (?, ?)");
+             Batch grades = new Batch(connection, "INSERT INTO grades (id, name, value, subject_id) VALUES (?, ?, ?, ?)");
+             Batch absences = new Batch(connection, "INSERT INTO absences (id, date, amount, subject_id) VALUES (?, ?, ?, ?)");
+             Batch summaries = new Batch(connection, "INSERT INTO subject_summaries (subject_id, grade_count, grade_sum, absence_total, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            // Parents before children, so every batch only references rows already sent
+            List<Batch> order = List.of(users, professors, subjects, subjectsProfessors, grades, absences, summaries);
+
+            for (int u = 0; u < scale.users(); u++) {
+                UUID userId = UuidV7Generator.next();
+                users.add(userId, "User " + u, email(u), passwordHash);
+
+                List<UUID> userProfessors = new ArrayList<>(scale.professorsPerUser());
+
+                for (int p = 0; p < scale.professorsPerUser(); p++) {
+                    UUID professorId = UuidV7Generator.next();
+                    userProfessors.add(professorId);
+                    professors.add(professorId, "Professor " + p, "professor" + u + "-" + p + "@load.test", userId);
+                }
+
+                for (int s = 0; s < scale.subjectsPerUser(); s++) {
+                    UUID subjectId = UuidV7Generator.next();
+                    subjects.add(subjectId, "Subject " + s, "Synthetic subject " + s + " of user " + u, userId);
+
+                    for (int p = 0; p < Math.min(scale.professorsPerSubject(), userProfessors.size()); p++) {
+                        subjectsProfessors.add(subjectId, userProfessors.get((s + p) % userProfessors.size()));
+                    }
+
+                    double gradeSum = 0;
+
+                    for (int g = 0; g < scale.gradesPerSubject(); g++) {
+                        double value = random.nextInt(101) / 10.0;
+                        gradeSum += value;
+                        grades.add(UuidV7Generator.next(), "Grade " + g, value, subjectId);
+                    }
+
+                    long absenceTotal = 0;
+
+                    for (int a = 0; a < scale.absencesPerSubject(); a++) {
+                        int amount = 1 + random.nextInt(4);
+                        absenceTotal += amount;
+                        absences.add(UuidV7Generator.next(), Date.valueOf(today.minusDays(random.nextInt(365))), amount, subjectId);
+                    }
+
+                    summaries.add(subjectId, (long) scale.gradesPerSubject(), gradeSum, absenceTotal, now);
+                }
+
+                if ((u + 1) % USERS_PER_TRANSACTION == 0 || u == scale.users() - 1) {
+                    for (Batch batch : order) {
+                        rows += batch.flush();
+                    }
+
+                    connection.commit();
+                } else {
+                    for (Batch batch : order) {
+                        if (batch.pending >= BATCH_SIZE) {
+                            // Flushing a child early is only safe once its parents are in, so flush the whole chain
+                            for (Batch parent : order) {
+                                rows += parent.flush();
+                            }
+
+                            break;
+                        }
+                    }
+                }
+            }
+
+            connection.setAutoCommit(autoCommit);
+        }
+
+        return rows;
+    }
+
+    private static final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+
+        private int pending;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                this.statement.setObject(i + 1, values[i]);
+            }
+
+            this.statement.addBatch();
+            this.pending++;
+        }
+
+        int flush() throws SQLException {
+            if (this.pending == 0) {
+                return 0;
+            }
+
+            this.statement.executeBatch();
+            int flushed = this.pending;
+            this.pending = 0;
+
+            return flushed;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            this.statement.close();
+        }
+    }
+}
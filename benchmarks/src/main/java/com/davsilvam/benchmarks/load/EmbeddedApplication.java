@@ -0,0 +1,64 @@
+package com.davsilvam.benchmarks.load;
+
+import com.davsilvam.AcademicApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The real application, booted in this JVM on a random port against its own in-memory H2 database, with the
+ * {@code load} profile's connection pool.
+ * Spring arguments given on the command line ("--key=value") override the defaults, so the same run can target
+ * PostgreSQL or resize the connection pool.
+ */
+public final class EmbeddedApplication implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApplication(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static EmbeddedApplication start(String name, Map<String, String> properties, String[] args) {
+        Map<String, String> merged = new LinkedHashMap<>();
+        merged.put("spring.profiles.active", "load");
+        merged.put("server.port", "0");
+        merged.put("spring.datasource.url", "jdbc:h2:mem:" + name + ";MODE=PostgreSQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1");
+        merged.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        merged.put("spring.jpa.properties.hibernate.generate_statistics", "false");
+        merged.put("api.summaries.rebuild-cron", "-");
+        merged.put("logging.level.root", "WARN");
+        merged.putAll(properties);
+
+        // Repeating a command-line property would make Spring join the values, so overrides replace the defaults here
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+
+            if (arg.startsWith("--") && separator > 2) {
+                merged.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        String[] springArgs = merged.entrySet().stream().map(entry -> "--" + entry.getKey() + "=" + entry.getValue()).toArray(String[]::new);
+
+        return new EmbeddedApplication(new SpringApplicationBuilder(AcademicApplication.class).run(springArgs));
+    }
+
+    public <T> T bean(Class<T> type) {
+        return this.context.getBean(type);
+    }
+
+    URI baseUri() {
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+
+        return URI.create("http://localhost:" + port + "/");
+    }
+
+    @Override
+    public void close() {
+        this.context.close();
+    }
+}
@@ -0,0 +1,61 @@
+package com.davsilvam.benchmarks.load;
+
+import java.util.Arrays;
+
+/**
+ * Request latencies recorded by a single client, merged with the other clients' once the run is over.
+ */
+final class Latencies {
+    private long[] values = new long[1024];
+
+    private int size;
+
+    private int errors;
+
+    void record(long nanos) {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+
+        this.values[this.size++] = nanos;
+    }
+
+    void error() {
+        this.errors++;
+    }
+
+    static Latencies merge(Iterable<Latencies> all) {
+        Latencies merged = new Latencies();
+
+        for (Latencies latencies : all) {
+            for (int i = 0; i < latencies.size; i++) {
+                merged.record(latencies.values[i]);
+            }
+
+            merged.errors += latencies.errors;
+        }
+
+        Arrays.sort(merged.values, 0, merged.size);
+
+        return merged;
+    }
+
+    /**
+     * Formats a merged, sorted set of latencies measured over the given number of seconds.
+     */
+    String report(double seconds) {
+        return String.format("%8.0f req/s  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  max %7.2f ms  errors %d",
+                this.size / seconds, this.percentile(0.50), this.percentile(0.99), this.percentile(0.999),
+                this.percentile(1.0), this.errors);
+    }
+
+    private double percentile(double quantile) {
+        if (this.size == 0) {
+            return Double.NaN;
+        }
+
+        int index = (int) Math.ceil(quantile * this.size) - 1;
+
+        return this.values[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.davsilvam.benchmarks.load;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how much a burst of logins slows down the other endpoints. {@code -Dreaders} clients keep calling
+ * {@code GET /subjects} for two phases of {@code -Dduration} seconds: a quiet one, then one where {@code -Dlogins}
+ * more clients log in back to back. The read latencies of both phases are printed side by side, once with BCrypt on
+ * the bounded hashing pool and once on the request threads ({@code api.security.password.hashing-threads=0}).
+ * The login throttle is lifted, so every login reaches the password check.
+ * <p>
+ * Options: {@code -Dreaders} (default 16), {@code -Dlogins} (default 64), {@code -Dwarmup} and {@code -Dduration} in
+ * seconds (default 10 and 20) and {@code -Dmodes} (default {@code bounded,unbounded}). Any {@code --key=value}
+ * argument is passed on to Spring.
+ */
+public class LoginBurstLoadTest {
+    public static void main(String[] args) throws Exception {
+        int readers = Integer.getInteger("readers", 16);
+        int logins = Integer.getInteger("logins", 64);
+        int warmup = Integer.getInteger("warmup", 10);
+        int duration = Integer.getInteger("duration", 20);
+        DatasetGenerator.Scale scale = new DatasetGenerator.Scale(logins + 1, 20, 10, 2, 10, 10);
+
+        for (String mode : System.getProperty("modes", "bounded,unbounded").split(",")) {
+            Map<String, String> properties = Map.of(
+                    "api.security.login-throttle.per-email.capacity", "1000000",
+                    "api.security.login-throttle.per-email.refill-interval", "1ms",
+                    "api.security.password.hashing-threads", mode.equals("bounded") ? "2" : "0"
+            );
+
+            try (EmbeddedApplication application = EmbeddedApplication.start("load-login-" + mode, properties, args)) {
+                DatasetGenerator.generate(application.bean(DataSource.class), scale, 42);
+
+                ApiClient api = new ApiClient(application.baseUri());
+                String token = api.login(DatasetGenerator.email(0), DatasetGenerator.PASSWORD);
+
+                run(api, token, readers, 0, warmup);
+                Phase quiet = run(api, token, readers, 0, duration);
+                Phase burst = run(api, token, readers, logins, duration);
+
+                System.out.printf("%-9s quiet  %s%n", mode, quiet.reads().report(duration));
+                System.out.printf("%-9s burst  %s%n", mode, burst.reads().report(duration));
+                System.out.printf("%-9s logins %s  rejected %d%n", mode, burst.logins().report(duration), burst.rejected());
+            }
+        }
+    }
+
+    record Phase(Latencies reads, Latencies logins, int rejected) {
+    }
+
+    private static Phase run(ApiClient api, String token, int readers, int logins, int seconds) throws InterruptedException {
+        List<Latencies> reads = new ArrayList<>(readers);
+        List<Latencies> loginLatencies = new ArrayList<>(logins);
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] end = new long[1];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < readers; i++) {
+                Latencies latencies = new Latencies();
+                reads.add(latencies);
+
+                executor.submit(() -> {
+                    start.await();
+
+                    while (System.nanoTime() < end[0]) {
+                        long begin = System.nanoTime();
+
+                        try {
+                            if (api.status("GET", "subjects", token, null) == 200) {
+                                latencies.record(System.nanoTime() - begin);
+                            } else {
+                                latencies.error();
+                            }
+                        } catch (RuntimeException exception) {
+                            latencies.error();
+                        }
+                    }
+
+                    return null;
+                });
+            }
+
+            for (int i = 0; i < logins; i++) {
+                Latencies latencies = new Latencies();
+                loginLatencies.add(latencies);
+                Map<String, String> credentials = Map.of("email", DatasetGenerator.email(i + 1), "password", DatasetGenerator.PASSWORD);
+
+                executor.submit(() -> {
+                    start.await();
+
+                    while (System.nanoTime() < end[0]) {
+                        long begin = System.nanoTime();
+
+                        try {
+                            int status = api.status("POST", "auth/login", null, credentials);
+
+                            if (status == 200) {
+                                latencies.record(System.nanoTime() - begin);
+                            } else if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else {
+                                latencies.error();
+                            }
+                        } catch (RuntimeException exception) {
+                            latencies.error();
+                        }
+                    }
+
+                    return null;
+                });
+            }
+
+            end[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            start.countDown();
+        }
+
+        return new Phase(Latencies.merge(reads), Latencies.merge(loginLatencies), rejected.get());
+    }
+}
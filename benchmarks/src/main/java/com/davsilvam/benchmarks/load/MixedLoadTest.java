@@ -0,0 +1,178 @@
+package com.davsilvam.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on an in-memory H2 database, seeds it with {@link DatasetGenerator} and replays user sessions
+ * against it: each client logs in as a random seeded user, loads the dashboard and then sends {@code -Dsession}
+ * requests mixing subject, stats and grade reads with grade and absence writes. Throughput and latency percentiles are
+ * printed per operation.
+ * <p>
+ * Options: the {@link DatasetGenerator.Scale} properties ({@code -Dusers}, {@code -Dsubjects}, {@code -Dprofessors},
+ * {@code -DprofessorsPerSubject}, {@code -Dgrades}, {@code -Dabsences}), {@code -Dclients} (default 100),
+ * {@code -Dsession} (default 20), {@code -Dwarmup} and {@code -Dduration} in seconds (default 10 and 30) and
+ * {@code -Dseed}. Any {@code --key=value} argument is passed on to Spring.
+ */
+public class MixedLoadTest {
+    enum Operation {
+        LOGIN, DASHBOARD, GET_SUBJECT, SUBJECT_STATS, LIST_GRADES, CREATE_GRADE, CREATE_ABSENCE
+    }
+
+    /**
+     * Cumulative weights, out of 100, of the requests sent after the dashboard.
+     */
+    private static final int[] WEIGHTS = {35, 55, 75, 90, 100};
+
+    private static final Operation[] SESSION_OPERATIONS = {
+            Operation.GET_SUBJECT, Operation.SUBJECT_STATS, Operation.LIST_GRADES, Operation.CREATE_GRADE, Operation.CREATE_ABSENCE
+    };
+
+    public static void main(String[] args) throws Exception {
+        DatasetGenerator.Scale scale = DatasetGenerator.Scale.fromSystemProperties();
+        int clients = Integer.getInteger("clients", 100);
+        int session = Integer.getInteger("session", 20);
+        int warmup = Integer.getInteger("warmup", 10);
+        int duration = Integer.getInteger("duration", 30);
+        long seed = Long.getLong("seed", 42);
+
+        try (EmbeddedApplication application = EmbeddedApplication.start("load-mixed", Map.of(), args)) {
+            long start = System.nanoTime();
+            long rows = DatasetGenerator.generate(application.bean(DataSource.class), scale, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Seeded %d rows (%s) in %.1f s, %.0f rows/s%n", rows, scale, seconds, rows / seconds);
+
+            ApiClient api = new ApiClient(application.baseUri());
+            run(api, scale, clients, session, warmup, seed);
+            Map<Operation, Latencies> latencies = run(api, scale, clients, session, duration, seed + 1);
+
+            List<Latencies> all = new ArrayList<>();
+            System.out.printf("%d clients, %d requests per session, %d s%n", clients, session, duration);
+
+            for (Map.Entry<Operation, Latencies> entry : latencies.entrySet()) {
+                all.add(entry.getValue());
+                System.out.printf("%-15s %s%n", entry.getKey(), entry.getValue().report(duration));
+            }
+
+            System.out.printf("%-15s %s%n", "TOTAL", Latencies.merge(all).report(duration));
+        }
+    }
+
+    private static Map<Operation, Latencies> run(ApiClient api, DatasetGenerator.Scale scale, int clients, int session, int seconds, long seed) throws InterruptedException {
+        List<Map<Operation, Latencies>> all = new ArrayList<>(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] end = new long[1];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+
+                for (Operation operation : Operation.values()) {
+                    latencies.put(operation, new Latencies());
+                }
+
+                all.add(latencies);
+                SplittableRandom random = new SplittableRandom(seed * 31 + i);
+
+                executor.submit(() -> {
+                    start.await();
+
+                    while (System.nanoTime() < end[0]) {
+                        session(api, scale, session, random, latencies, end[0]);
+                    }
+
+                    return null;
+                });
+            }
+
+            end[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            start.countDown();
+        }
+
+        Map<Operation, Latencies> merged = new EnumMap<>(Operation.class);
+
+        for (Operation operation : Operation.values()) {
+            merged.put(operation, Latencies.merge(all.stream().map(latencies -> latencies.get(operation)).toList()));
+        }
+
+        return merged;
+    }
+
+    private static void session(ApiClient api, DatasetGenerator.Scale scale, int requests, SplittableRandom random, Map<Operation, Latencies> latencies, long end) {
+        String email = DatasetGenerator.email(random.nextInt(scale.users()));
+
+        long begin = System.nanoTime();
+        String token;
+
+        try {
+            token = api.login(email, DatasetGenerator.PASSWORD);
+            latencies.get(Operation.LOGIN).record(System.nanoTime() - begin);
+        } catch (RuntimeException exception) {
+            latencies.get(Operation.LOGIN).error();
+            return;
+        }
+
+        begin = System.nanoTime();
+        List<String> subjects = new ArrayList<>();
+
+        try {
+            JsonNode dashboard = api.send("GET", "me/dashboard", token, null);
+            latencies.get(Operation.DASHBOARD).record(System.nanoTime() - begin);
+            dashboard.get("subjects").forEach(subject -> subjects.add(subject.get("id").asText()));
+        } catch (RuntimeException exception) {
+            latencies.get(Operation.DASHBOARD).error();
+            return;
+        }
+
+        if (subjects.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < requests && System.nanoTime() < end; i++) {
+            Operation operation = pick(random);
+            String subject = subjects.get(random.nextInt(subjects.size()));
+            begin = System.nanoTime();
+
+            try {
+                int status = switch (operation) {
+                    case GET_SUBJECT -> api.status("GET", "subjects/" + subject + "?expand=professors,grades,absences", token, null);
+                    case SUBJECT_STATS -> api.status("GET", "subjects/" + subject + "/stats", token, null);
+                    case LIST_GRADES -> api.status("GET", "grades/subject/" + subject, token, null);
+                    case CREATE_GRADE -> api.status("POST", "grades", token, Map.of("name", "Load grade", "value", random.nextInt(101) / 10.0, "subject_id", subject));
+                    case CREATE_ABSENCE -> api.status("POST", "absences", token, Map.of("date", "15/03/2024", "amount", 1 + random.nextInt(4), "subject_id", subject));
+                    default -> throw new IllegalStateException("Unexpected operation " + operation);
+                };
+
+                if (status < 400) {
+                    latencies.get(operation).record(System.nanoTime() - begin);
+                } else {
+                    latencies.get(operation).error();
+                }
+            } catch (RuntimeException exception) {
+                latencies.get(operation).error();
+            }
+        }
+    }
+
+    private static Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(100);
+
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            if (roll < WEIGHTS[i]) {
+                return SESSION_OPERATIONS[i];
+            }
+        }
+
+        return SESSION_OPERATIONS[SESSION_OPERATIONS.length - 1];
+    }
+}
@@ -0,0 +1,86 @@
+package com.davsilvam.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application once with platform request threads and once with virtual threads, and in each run keeps
+ * {@code -Dclients} concurrent clients calling {@code GET /subjects/{id}/stats} in a closed loop. Every request
+ * authenticates its token and runs a few JDBC round trips, which is where a request thread blocks.
+ * <p>
+ * Options: {@code -Dclients} (default 1000), {@code -Dwarmup} and {@code -Dduration} in seconds (default 10 and 30)
+ * and {@code -Dmodes} (default {@code platform,virtual}). Any {@code --key=value} argument is passed on to Spring.
+ */
+public class ThreadModeLoadTest {
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("clients", 1000);
+        int warmup = Integer.getInteger("warmup", 10);
+        int duration = Integer.getInteger("duration", 30);
+
+        for (String mode : System.getProperty("modes", "platform,virtual").split(",")) {
+            Map<String, String> properties = Map.of("spring.threads.virtual.enabled", String.valueOf(mode.equals("virtual")));
+
+            try (EmbeddedApplication application = EmbeddedApplication.start("load-" + mode, properties, args)) {
+                ApiClient api = new ApiClient(application.baseUri());
+                String token = api.register("Load Test", UUID.randomUUID() + "@example.com", "password");
+                JsonNode subject = api.send("POST", "subjects", token, Map.of("name", "Subject", "description", "Description", "professors_ids", List.of()));
+                String path = "subjects/" + subject.get("id").asText() + "/stats";
+
+                for (int i = 0; i < 10; i++) {
+                    api.send("POST", "grades", token, Map.of("name", "Grade " + i, "value", i, "subject_id", subject.get("id").asText()));
+                }
+
+                run(api, path, token, clients, warmup);
+                Latencies latencies = run(api, path, token, clients, duration);
+
+                System.out.printf("%-8s %5d clients  %s%n", mode, clients, latencies.report(duration));
+            }
+        }
+    }
+
+    private static Latencies run(ApiClient api, String path, String token, int clients, int seconds) throws InterruptedException {
+        List<Latencies> all = new ArrayList<>(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] end = new long[1];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Latencies latencies = new Latencies();
+                all.add(latencies);
+
+                executor.submit(() -> {
+                    start.await();
+
+                    while (System.nanoTime() < end[0]) {
+                        long begin = System.nanoTime();
+
+                        try {
+                            if (api.status("GET", path, token, null) == 200) {
+                                latencies.record(System.nanoTime() - begin);
+                            } else {
+                                latencies.error();
+                            }
+                        } catch (RuntimeException exception) {
+                            latencies.error();
+                        }
+                    }
+
+                    return null;
+                });
+            }
+
+            end[0] = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            start.countDown();
+        }
+
+        return Latencies.merge(all);
+    }
+}
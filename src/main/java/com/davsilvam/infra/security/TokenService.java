@@ -1,43 +0,0 @@
-package com.davsilvam.infra.security;
-
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.exceptions.JWTCreationException;
-import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.davsilvam.domain.user.User;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-
-@Service
-public class TokenService {
-    @Value("${api.security.token.secret}")
-    private String secret;
-
-    public String generateToken(User user) throws RuntimeException {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
-            return JWT.create().withIssuer("academic").withSubject(user.getEmail()).withClaim("id", user.getId().toString()).withExpiresAt(generateExpirationDate()).sign(algorithm);
-        } catch (JWTCreationException exception) {
-            throw new RuntimeException("Error while generating token.", exception);
-        }
-    }
-
-    private Instant generateExpirationDate() {
-        return LocalDateTime.now().plusHours(2).toInstant(ZoneOffset.of("-03:00"));
-    }
-
-    public String validateToken(String token) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-
-            return JWT.require(algorithm).withIssuer("academic").build().verify(token).getSubject();
-        } catch (JWTVerificationException exception) {
-            return "";
-        }
-    }
-}
@@ -1,12 +0,0 @@
-package com.davsilvam.repositories;
-
-import com.davsilvam.domain.user.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.UUID;
-
-@Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    User findByEmail(String email);
-}